@@ -0,0 +1,189 @@
+package name.mlgmaster.core.bench;
+
+import java.util.SplittableRandom;
+import name.mlgmaster.core.AllocationMeter;
+import name.mlgmaster.core.BlockCoords;
+import name.mlgmaster.core.ClutchCostModel;
+import name.mlgmaster.core.ClutchWindow;
+import name.mlgmaster.core.FallDamageModel;
+import name.mlgmaster.core.FallPhysics;
+import name.mlgmaster.core.FallSimulator;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.LandingSafetyTable;
+import name.mlgmaster.core.PlacementTiming;
+import name.mlgmaster.core.SimulationResult;
+import name.mlgmaster.core.Trajectory;
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainPalette;
+import name.mlgmaster.core.terrain.TerrainScenario;
+
+/**
+ * Allocation-budget gate for the physics core's share of the per-tick hot path. Replays
+ * representative falls tick by tick and runs, from each tick's state, the core work the handler's
+ * stages do: the prediction stage simulates the fall, classifies the landing block and times the
+ * placement; the evaluation stage scores every clutch type's window, view rotation and success
+ * odds and estimates the landing damage. The build fails when a stage's average per-tick
+ * allocation exceeds its budget.
+ *
+ * The Minecraft side of the same stages (world adapters, prediction results, packets) only runs
+ * in game and is gated by {@code HotPathAllocationTest}.
+ */
+public class AllocationGate {
+    private static final int PREDICTION = 0;
+    private static final int EVALUATION = 1;
+
+    // Average bytes allocated per tick, after warm-up
+    private static final double[] BUDGETS = {0.0, 0.0};
+
+    private static final int SEEDS = 4;
+    private static final int STARTS = 8;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MAX_FALL_TICKS = 400;
+
+    // Stand-ins for the registered clutch types and the player the handler evaluates them for
+    private static final int[] LEAD_TICKS = {0, 1, 1, 2, 2, 3, 3, 4};
+    private static final double EYE_HEIGHT = 1.62;
+    private static final double REACH = 4.5;
+    private static final float YAW = 30.0f;
+    private static final float PITCH = 60.0f;
+    private static final double ACCEPTANCE = ClutchCostModel.acceptanceProbability(20, 18);
+
+    private static final LandingSafetyTable SAFETY = createSafetyTable();
+    private static final ClutchWindow window = new ClutchWindow();
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        if (!AllocationMeter.isSupported()) {
+            System.out.println("Thread allocation counters unavailable on this JVM, skipping gate");
+            return;
+        }
+
+        AllocationMeter meter = new AllocationMeter("prediction", "evaluation");
+        FallState tickState = new FallState();
+        FallState state = new FallState();
+        SimulationResult result = new SimulationResult();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runFalls(meter, tickState, state, result);
+        }
+        meter.reset();
+        runFalls(meter, tickState, state, result);
+
+        System.out.println(meter);
+
+        boolean failed = false;
+        for (int stage = 0; stage < meter.getStageCount(); stage++) {
+            if (meter.getAverageBytes(stage) > BUDGETS[stage]) {
+                System.out.printf("ALLOCATION BUDGET EXCEEDED: %s allocates %.1f bytes/tick "
+                        + "(budget %.1f)%n", meter.getStageName(stage), meter.getAverageBytes(stage),
+                        BUDGETS[stage]);
+                failed = true;
+            }
+        }
+
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static void runFalls(AllocationMeter meter, FallState tickState, FallState state,
+            SimulationResult result) {
+        for (TerrainScenario scenario : TerrainScenario.values()) {
+            for (int seed = 0; seed < SEEDS; seed++) {
+                SyntheticWorld world = scenario.generate(seed);
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < STARTS; i++) {
+                    world.sampleStart(random, tickState);
+                    replayFall(meter, world, tickState, state, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-predict every tick of one fall, advancing along the first tick of each prediction
+     */
+    private static void replayFall(AllocationMeter meter, SyntheticWorld world,
+            FallState tickState, FallState state, SimulationResult result) {
+        for (int tick = 0; tick < MAX_FALL_TICKS; tick++) {
+            state.set(tickState.getX(), tickState.getY(), tickState.getZ(),
+                    tickState.getVelocityX(), tickState.getVelocityY(), tickState.getVelocityZ());
+
+            meter.begin(PREDICTION);
+            FallSimulator.simulate(world, state, result);
+            predict(world, result);
+            meter.end(PREDICTION);
+
+            meter.begin(EVALUATION);
+            evaluate(tickState, result);
+            meter.end(EVALUATION);
+
+            if (!result.hasCollision() || result.getSimulationTicks() == 0) {
+                return;
+            }
+
+            // The next tick starts where the first one ended, with its updated velocity
+            Trajectory trajectory = result.getTrajectory();
+            tickState.set(trajectory.getStartX(1), trajectory.getStartY(1),
+                    trajectory.getStartZ(1), trajectory.getVelocityX(1),
+                    trajectory.getVelocityY(1), trajectory.getVelocityZ(1));
+        }
+    }
+
+    private static void predict(SyntheticWorld world, SimulationResult result) {
+        long block = result.getCollisionBlock();
+        int stateId = block != BlockCoords.NONE ? world.getStateId(BlockCoords.unpackX(block),
+                BlockCoords.unpackY(block), BlockCoords.unpackZ(block)) : TerrainPalette.AIR;
+        int ticksToImpact = result.getSimulationTicks();
+
+        sink += SAFETY.classify(stateId);
+        sink += PlacementTiming.optimalPlacementTick(ticksToImpact);
+        sink += PlacementTiming.shouldPlaceNow(ticksToImpact) ? 1 : 0;
+        sink += FallPhysics.isNearTerminalVelocity(result.getFinalVelocityY()) ? 2 : 0;
+    }
+
+    private static void evaluate(FallState tickState, SimulationResult result) {
+        if (!result.hasCollision()) {
+            return;
+        }
+
+        Trajectory trajectory = result.getTrajectory();
+        int ticksToImpact = result.getSimulationTicks();
+        long block = result.getCollisionBlock();
+        double targetX = BlockCoords.unpackX(block) + 0.5;
+        double targetY = result.getFinalY();
+        double targetZ = BlockCoords.unpackZ(block) + 0.5;
+        double eyeX = tickState.getX();
+        double eyeY = tickState.getY() + EYE_HEIGHT;
+        double eyeZ = tickState.getZ();
+
+        for (int leadTicks : LEAD_TICKS) {
+            window.compute(trajectory, ticksToImpact, EYE_HEIGHT, targetX, targetY, targetZ,
+                    REACH, leadTicks);
+            double rotation = ClutchCostModel.rotationDelta(eyeX, eyeY, eyeZ, targetX, targetY,
+                    targetZ, YAW, PITCH);
+            double probability = ClutchCostModel.successProbability(ACCEPTANCE, ticksToImpact,
+                    leadTicks, 0.0, REACH, rotation, leadTicks > 2);
+            double margin = ClutchCostModel.expectedMargin(probability, 20.0, 0.0);
+            sink += window.isFeasible() ? 1 : 0;
+            sink += (long) margin;
+        }
+
+        double fallDistance = FallDamageModel.effectiveFallDistance(0.0,
+                tickState.getY() - targetY, tickState.getVelocityY());
+        float damage = FallDamageModel.estimateDamage(fallDistance,
+                FallDamageModel.DEFAULT_SAFE_FALL_DISTANCE, 1.0, 1.0, 4, -1, false);
+        sink += (long) FallDamageModel.remainingHealth(damage, 20.0f, 0.0f);
+    }
+
+    private static LandingSafetyTable createSafetyTable() {
+        LandingSafetyTable table = new LandingSafetyTable(TerrainPalette.SIZE);
+        table.set(TerrainPalette.WATER, LandingSafetyTable.SAFE);
+        table.set(TerrainPalette.SLIME_BLOCK, LandingSafetyTable.SAFE);
+        table.set(TerrainPalette.HAY_BLOCK, LandingSafetyTable.NEEDS_BELOW_CHECK);
+        table.set(TerrainPalette.SCAFFOLDING, LandingSafetyTable.NEEDS_CROUCH);
+        table.setDamageMultiplier(TerrainPalette.HAY_BLOCK, 0.2f);
+        return table;
+    }
+}
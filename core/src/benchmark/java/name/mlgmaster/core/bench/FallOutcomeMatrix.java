@@ -0,0 +1,164 @@
+package name.mlgmaster.core.bench;
+
+import java.util.SplittableRandom;
+import name.mlgmaster.core.BlockCoords;
+import name.mlgmaster.core.FallSimulator;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.SimulationResult;
+import name.mlgmaster.core.Trajectory;
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainPalette;
+import name.mlgmaster.core.terrain.TerrainScenario;
+
+/**
+ * Simulates thousands of seeded starting states across every terrain scenario, tabulates where
+ * each fall ends and fails the run if any outcome breaks a physical invariant. Falls are followed
+ * through the full world height rather than the in-game drop limit, so a fall that ends above a
+ * floor without landing is a violation. The simulator does not model fluids, so a fall whose feet
+ * reach a water block before the landing is counted as a water landing instead of under the
+ * block below the water.
+ *
+ * Usage: {@code FallOutcomeMatrix [seedsPerScenario] [startsPerSeed]}
+ */
+public class FallOutcomeMatrix {
+    private static final double MAX_DROP = TerrainScenario.WORLD_HEIGHT;
+
+    public static void main(String[] args) {
+        int seeds = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int starts = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+
+        FallState state = new FallState();
+        FallState replay = new FallState();
+        SimulationResult result = new SimulationResult();
+        SimulationResult replayResult = new SimulationResult();
+
+        int totalRuns = 0;
+        int violations = 0;
+
+        System.out.printf("%-18s %7s %9s %7s %9s  %s%n", "scenario", "runs", "no-land", "water",
+                "avg-ticks", "landed on");
+
+        for (TerrainScenario scenario : TerrainScenario.values()) {
+            int[] landedOn = new int[TerrainPalette.SIZE];
+            int noLanding = 0;
+            int waterLandings = 0;
+            long tickSum = 0;
+            int runs = 0;
+
+            for (int seed = 0; seed < seeds; seed++) {
+                SyntheticWorld world = scenario.generate(seed);
+                SplittableRandom random = new SplittableRandom(seed * 31L + scenario.ordinal());
+
+                for (int i = 0; i < starts; i++) {
+                    world.sampleStart(random, state);
+                    replay.set(state.getX(), state.getY(), state.getZ(), state.getVelocityX(),
+                            state.getVelocityY(), state.getVelocityZ());
+
+                    FallSimulator.simulate(world, state, result, MAX_DROP);
+                    FallSimulator.simulate(world, replay, replayResult, MAX_DROP);
+                    runs++;
+
+                    String violation = checkInvariants(world, result, replayResult);
+                    if (violation != null) {
+                        violations++;
+                        System.out.printf("VIOLATION %s seed=%d start=%d: %s (%s)%n",
+                                scenario, seed, i, violation, result);
+                    }
+
+                    int waterTick = findWaterEntryTick(world, result.getTrajectory());
+                    if (waterTick >= 0) {
+                        waterLandings++;
+                        tickSum += waterTick;
+                    } else if (result.hasCollision()) {
+                        long block = result.getCollisionBlock();
+                        landedOn[world.getStateId(BlockCoords.unpackX(block),
+                                BlockCoords.unpackY(block), BlockCoords.unpackZ(block))]++;
+                        tickSum += result.getSimulationTicks();
+                    } else {
+                        noLanding++;
+                    }
+                }
+            }
+
+            totalRuns += runs;
+            int landed = runs - noLanding;
+            System.out.printf("%-18s %7d %9d %7d %9.1f  %s%n", scenario, runs, noLanding,
+                    waterLandings, landed > 0 ? (double) tickSum / landed : 0.0,
+                    describe(landedOn));
+        }
+
+        System.out.printf("%d falls simulated, %d invariant violations%n", totalRuns, violations);
+        if (violations > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String checkInvariants(SyntheticWorld world, SimulationResult result,
+            SimulationResult replay) {
+        if (result.hasCollision() != replay.hasCollision()
+                || result.getCollisionBlock() != replay.getCollisionBlock()
+                || result.getSimulationTicks() != replay.getSimulationTicks()) {
+            return "non-deterministic outcome";
+        }
+
+        if (!result.hasCollision()) {
+            // Only a fall that drifted off the edge of the world may miss the floor
+            return world.hasFloorAt(result.getFinalX(), result.getFinalZ())
+                    ? "no landing above a floor" : null;
+        }
+
+        long block = result.getCollisionBlock();
+        int x = BlockCoords.unpackX(block);
+        int y = BlockCoords.unpackY(block);
+        int z = BlockCoords.unpackZ(block);
+
+        if (!world.isSolid(x, y, z)) {
+            return "landed on a non-solid block";
+        }
+        if (y > result.getStartY()) {
+            return "landing block above start position";
+        }
+        if (result.getFinalY() > result.getStartY()) {
+            return "final position above start position";
+        }
+        if (result.getSimulationTicks() >= FallSimulator.MAX_SIMULATION_TICKS) {
+            return "collision reported after simulation limit";
+        }
+        if (result.getTrajectory().size() != result.getSimulationTicks() + 1) {
+            return "trajectory length does not match simulated ticks";
+        }
+        return null;
+    }
+
+    /**
+     * First tick whose movement carries the feet into a water block in the column under the
+     * player's center, or -1 if the fall never reaches water
+     */
+    private static int findWaterEntryTick(SyntheticWorld world, Trajectory trajectory) {
+        for (int tick = 0; tick < trajectory.size(); tick++) {
+            int x = (int) Math.floor(trajectory.getStartX(tick));
+            int z = (int) Math.floor(trajectory.getStartZ(tick));
+            int fromY = (int) Math.floor(trajectory.getStartY(tick));
+            int toY = (int) Math.floor(trajectory.getEndY(tick));
+            for (int y = fromY; y >= toY; y--) {
+                if (world.getStateId(x, y, z) == TerrainPalette.WATER) {
+                    return tick;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static String describe(int[] landedOn) {
+        StringBuilder builder = new StringBuilder();
+        for (int id = 0; id < landedOn.length; id++) {
+            if (landedOn[id] > 0) {
+                if (builder.length() > 0) {
+                    builder.append(", ");
+                }
+                builder.append(TerrainPalette.getName(id)).append('=').append(landedOn[id]);
+            }
+        }
+        return builder.length() > 0 ? builder.toString() : "-";
+    }
+}
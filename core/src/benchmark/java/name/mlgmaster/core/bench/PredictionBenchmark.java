@@ -0,0 +1,62 @@
+package name.mlgmaster.core.bench;
+
+import java.util.SplittableRandom;
+import name.mlgmaster.core.FallSimulator;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.SimulationResult;
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainScenario;
+
+/**
+ * Measures full-fall prediction cost per terrain scenario
+ */
+public class PredictionBenchmark {
+    private static final int WORLDS_PER_SCENARIO = 8;
+    private static final int STARTS_PER_WORLD = 64;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        FallState state = new FallState();
+        SimulationResult result = new SimulationResult();
+
+        System.out.printf("%-18s %12s %12s%n", "scenario", "ns/predict", "ns/tick");
+
+        for (TerrainScenario scenario : TerrainScenario.values()) {
+            SyntheticWorld[] worlds = new SyntheticWorld[WORLDS_PER_SCENARIO];
+            for (int i = 0; i < worlds.length; i++) {
+                worlds[i] = scenario.generate(i);
+            }
+
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                runRound(worlds, state, result);
+            }
+
+            long elapsed = 0;
+            long ticks = 0;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                long start = System.nanoTime();
+                ticks += runRound(worlds, state, result);
+                elapsed += System.nanoTime() - start;
+            }
+
+            long predictions = (long) MEASURED_ROUNDS * WORLDS_PER_SCENARIO * STARTS_PER_WORLD;
+            System.out.printf("%-18s %12.0f %12.1f%n", scenario, (double) elapsed / predictions,
+                    (double) elapsed / Math.max(1, ticks));
+        }
+    }
+
+    private static long runRound(SyntheticWorld[] worlds, FallState state,
+            SimulationResult result) {
+        long ticks = 0;
+        for (int w = 0; w < worlds.length; w++) {
+            SplittableRandom random = new SplittableRandom(w);
+            for (int i = 0; i < STARTS_PER_WORLD; i++) {
+                worlds[w].sampleStart(random, state);
+                FallSimulator.simulate(worlds[w], state, result);
+                ticks += result.getTrajectory().size();
+            }
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,41 @@
+package name.mlgmaster.core;
+
+/**
+ * Packs block coordinates into a single long using the same bit layout as Minecraft's
+ * {@code BlockPos.asLong}, so packed values can cross the core/mod boundary without conversion.
+ */
+public final class BlockCoords {
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final int SIZE_BITS_XZ = 26;
+    private static final int SIZE_BITS_Y = 12;
+    private static final long MASK_XZ = (1L << SIZE_BITS_XZ) - 1L;
+    private static final long MASK_Y = (1L << SIZE_BITS_Y) - 1L;
+    private static final int SHIFT_Z = SIZE_BITS_Y;
+    private static final int SHIFT_X = SIZE_BITS_Y + SIZE_BITS_XZ;
+
+    private BlockCoords() {}
+
+    public static long pack(int x, int y, int z) {
+        return ((x & MASK_XZ) << SHIFT_X) | (y & MASK_Y) | ((z & MASK_XZ) << SHIFT_Z);
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> SHIFT_X);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << (64 - SIZE_BITS_Y) >> (64 - SIZE_BITS_Y));
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << (64 - SHIFT_X) >> (64 - SIZE_BITS_XZ));
+    }
+
+    public static String toString(long packed) {
+        if (packed == NONE) {
+            return "none";
+        }
+        return "(" + unpackX(packed) + ", " + unpackY(packed) + ", " + unpackZ(packed) + ")";
+    }
+}
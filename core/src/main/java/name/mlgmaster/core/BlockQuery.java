@@ -0,0 +1,24 @@
+package name.mlgmaster.core;
+
+/**
+ * Minimal read-only view of the block grid that the physics core runs against. The Fabric mod
+ * adapts the client world to this interface; tools and benchmarks can supply their own volumes.
+ */
+public interface BlockQuery {
+
+    /**
+     * Whether the block at the given position has a non-empty collision shape
+     */
+    boolean isSolid(int x, int y, int z);
+
+    /**
+     * Height of the top of the block's collision shape above the block's own y: 1 for full
+     * cubes, 0.5 for bottom slabs, 1.5 for fences. Only meaningful for solid blocks.
+     */
+    double getCollisionTop(int x, int y, int z);
+
+    /**
+     * Raw block state id at the given position (0 is air)
+     */
+    int getStateId(int x, int y, int z);
+}
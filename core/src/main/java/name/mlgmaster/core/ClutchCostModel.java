@@ -0,0 +1,90 @@
+package name.mlgmaster.core;
+
+/**
+ * Expected-outcome arithmetic for ranking clutch strategies. A strategy's chance of saving the
+ * player is its recorded server acceptance rate, discounted for missing lead time, reach, large
+ * snap rotations and an extra slot-switch packet. Its expected health margin blends the margin if
+ * it works with the margin of an unclutched landing.
+ */
+public final class ClutchCostModel {
+    // Beta prior on acceptance: behaves like 9 confirmations out of 10 before any data exists
+    public static final double PRIOR_CONFIRMED = 9.0;
+    public static final double PRIOR_FAILED = 1.0;
+    // Snap rotations are what anti-cheat and dropped look packets punish; 180 degrees costs 18%
+    public static final double ROTATION_RISK_PER_DEGREE = 0.001;
+    public static final double MIN_ROTATION_FACTOR = 0.5;
+    public static final double SLOT_SWITCH_FACTOR = 0.98;
+    // Targets just past reach still count partially, since the player keeps approaching
+    public static final double REACH_FALLOFF_BLOCKS = 1.0;
+
+    private ClutchCostModel() {}
+
+    /**
+     * Smoothed server acceptance rate from recorded outcomes
+     */
+    public static double acceptanceProbability(long attempts, long confirmed) {
+        return (confirmed + PRIOR_CONFIRMED) / (attempts + PRIOR_CONFIRMED + PRIOR_FAILED);
+    }
+
+    /**
+     * 1 if the strategy still has its lead time before impact, else 0; unknown timing (-1) passes
+     */
+    public static double timingFactor(int ticksToImpact, int leadTicks) {
+        return ticksToImpact < 0 || ticksToImpact >= leadTicks ? 1.0 : 0.0;
+    }
+
+    public static double reachFactor(double distance, double reach) {
+        if (distance <= reach) {
+            return 1.0;
+        }
+        return Math.max(0.0, 1.0 - (distance - reach) / REACH_FALLOFF_BLOCKS);
+    }
+
+    public static double rotationFactor(double rotationDegrees) {
+        return Math.max(MIN_ROTATION_FACTOR, 1.0 - rotationDegrees * ROTATION_RISK_PER_DEGREE);
+    }
+
+    public static double successProbability(double acceptance, int ticksToImpact, int leadTicks,
+            double distance, double reach, double rotationDegrees, boolean slotSwitch) {
+        return acceptance * timingFactor(ticksToImpact, leadTicks) * reachFactor(distance, reach)
+                * rotationFactor(rotationDegrees) * (slotSwitch ? SLOT_SWITCH_FACTOR : 1.0);
+    }
+
+    /**
+     * Health margin expected from a strategy that works with the given probability
+     */
+    public static double expectedMargin(double probability, double successMargin,
+            double failureMargin) {
+        return probability * successMargin + (1.0 - probability) * failureMargin;
+    }
+
+    /**
+     * Angle in degrees between the current view and the direction from the eyes to the target,
+     * combining yaw and pitch deltas
+     */
+    public static double rotationDelta(double eyeX, double eyeY, double eyeZ, double targetX,
+            double targetY, double targetZ, float yaw, float pitch) {
+        double dx = targetX - eyeX;
+        double dy = targetY - eyeY;
+        double dz = targetZ - eyeZ;
+        double horizontal = Math.sqrt(dx * dx + dz * dz);
+
+        double targetYaw = Math.toDegrees(Math.atan2(dz, dx)) - 90.0;
+        double targetPitch = -Math.toDegrees(Math.atan2(dy, horizontal));
+
+        double yawDelta = wrapDegrees(targetYaw - yaw);
+        double pitchDelta = targetPitch - pitch;
+        return Math.sqrt(yawDelta * yawDelta + pitchDelta * pitchDelta);
+    }
+
+    private static double wrapDegrees(double degrees) {
+        double wrapped = degrees % 360.0;
+        if (wrapped >= 180.0) {
+            wrapped -= 360.0;
+        }
+        if (wrapped < -180.0) {
+            wrapped += 360.0;
+        }
+        return wrapped;
+    }
+}
@@ -0,0 +1,67 @@
+package name.mlgmaster.core;
+
+/**
+ * Ticks during which a clutch can be placed, read off an existing {@link Trajectory} so each
+ * strategy gets its own window without simulating again. The window opens on the first tick the
+ * eyes are within reach of the target and closes the strategy's lead time before impact. Tick 0
+ * is the tick the trajectory starts, i.e. now. Instances are reusable.
+ */
+public final class ClutchWindow {
+    public static final int NEVER = -1;
+
+    private int openTick = NEVER;
+    private int closeTick = NEVER;
+
+    /**
+     * @param impactTick ticks until impact; the trajectory length is used when negative
+     */
+    public ClutchWindow compute(Trajectory trajectory, int impactTick, double eyeHeight,
+            double targetX, double targetY, double targetZ, double reach, int leadTicks) {
+        int impact = impactTick >= 0 ? impactTick : trajectory.size();
+        closeTick = impact - leadTicks;
+        openTick = NEVER;
+
+        double reachSquared = reach * reach;
+        int lastTick = Math.min(closeTick, trajectory.size() - 1);
+        for (int tick = 0; tick <= lastTick; tick++) {
+            double dx = targetX - trajectory.getStartX(tick);
+            double dy = targetY - (trajectory.getStartY(tick) + eyeHeight);
+            double dz = targetZ - trajectory.getStartZ(tick);
+            if (dx * dx + dy * dy + dz * dz <= reachSquared) {
+                openTick = tick;
+                break;
+            }
+        }
+        return this;
+    }
+
+    public void clear() {
+        openTick = NEVER;
+        closeTick = NEVER;
+    }
+
+    /**
+     * Whether the target comes into reach before the window closes
+     */
+    public boolean isFeasible() {
+        return openTick != NEVER && openTick <= closeTick;
+    }
+
+    public boolean isOpenAt(int tick) {
+        return isFeasible() && tick >= openTick && tick <= closeTick;
+    }
+
+    public int getOpenTick() {
+        return openTick;
+    }
+
+    public int getCloseTick() {
+        return closeTick;
+    }
+
+    @Override
+    public String toString() {
+        return isFeasible() ? String.format("ClutchWindow[%d..%d]", openTick, closeTick)
+                : "ClutchWindow[never]";
+    }
+}
@@ -0,0 +1,106 @@
+package name.mlgmaster.core;
+
+/**
+ * Swept landing detection against a {@link BlockQuery}. Positions are the player's feet, as
+ * Minecraft reports them. Like vanilla, the vertical movement is resolved first against the
+ * hitbox at the start of the tick, so horizontal drift during the tick does not change what is
+ * landed on.
+ */
+public final class CollisionSweep {
+    // Tallest collision shape a block can have (fences and walls)
+    public static final double MAX_COLLISION_TOP = 1.5;
+    // Vanilla's collision epsilon; feet this far inside a top still land on it
+    private static final double COLLISION_EPSILON = 1.0E-7;
+
+    private CollisionSweep() {}
+
+    /**
+     * Finds the block with the highest collision top the player's feet cross while moving from
+     * the current to the next position
+     *
+     * @return packed block coordinates, or {@link BlockCoords#NONE} when nothing is hit
+     */
+    public static long findFirstCollision(BlockQuery world, double currentX, double currentY,
+            double currentZ, double nextX, double nextY, double nextZ) {
+        if (nextY >= currentY) {
+            return BlockCoords.NONE; // Not falling
+        }
+        double halfWidth = FallPhysics.PLAYER_WIDTH / 2;
+
+        // Columns under the start hitbox, and every block whose top can lie in the swept range
+        int blockMinX = (int) Math.floor(currentX - halfWidth);
+        int blockMaxX = (int) Math.floor(currentX + halfWidth);
+        int blockMinZ = (int) Math.floor(currentZ - halfWidth);
+        int blockMaxZ = (int) Math.floor(currentZ + halfWidth);
+        int blockMinY = (int) Math.floor(nextY - MAX_COLLISION_TOP);
+        int blockMaxY = (int) Math.floor(currentY + COLLISION_EPSILON);
+
+        long firstCollision = BlockCoords.NONE;
+        double firstCollisionTop = Double.NEGATIVE_INFINITY;
+        double firstCollisionDistance = Double.POSITIVE_INFINITY;
+
+        // For falling players, find the highest surface that actually stops their fall. Among
+        // equally high ones vanilla reports the block nearest the player as the one stood on.
+        for (int y = blockMinY; y <= blockMaxY; y++) {
+            for (int x = blockMinX; x <= blockMaxX; x++) {
+                for (int z = blockMinZ; z <= blockMaxZ; z++) {
+                    if (!world.isSolid(x, y, z)) {
+                        continue;
+                    }
+                    double top = y + world.getCollisionTop(x, y, z);
+                    if (top < firstCollisionTop || !wouldPlayerLandOnBlock(currentX, currentY,
+                            currentZ, nextY, x, z, top)) {
+                        continue;
+                    }
+                    double distance = squaredDistanceToCenter(x, y, z, nextX, top, nextZ);
+                    if (top > firstCollisionTop || distance < firstCollisionDistance) {
+                        firstCollision = BlockCoords.pack(x, y, z);
+                        firstCollisionTop = top;
+                        firstCollisionDistance = distance;
+                    }
+                }
+            }
+        }
+
+        return firstCollision;
+    }
+
+    private static double squaredDistanceToCenter(int blockX, int blockY, int blockZ, double x,
+            double y, double z) {
+        double dx = blockX + 0.5 - x;
+        double dy = blockY + 0.5 - y;
+        double dz = blockZ + 0.5 - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * World height of the collision top of a block returned by {@link #findFirstCollision}, where
+     * the feet come to rest
+     */
+    public static double getSurfaceY(BlockQuery world, long block) {
+        int x = BlockCoords.unpackX(block);
+        int y = BlockCoords.unpackY(block);
+        int z = BlockCoords.unpackZ(block);
+        return y + world.getCollisionTop(x, y, z);
+    }
+
+    /**
+     * Whether feet falling from {@code currentY} to {@code nextY} cross a collision top at
+     * {@code surfaceY} in the given column. The feet only have to start above the top, so a
+     * whole-body step past a thin floor near terminal velocity still lands on it.
+     */
+    public static boolean wouldPlayerLandOnBlock(double currentX, double currentY,
+            double currentZ, double nextY, int blockX, int blockZ, double surfaceY) {
+        if (nextY >= currentY) {
+            return false; // Not falling
+        }
+        if (currentY < surfaceY - COLLISION_EPSILON || nextY >= surfaceY) {
+            return false; // Started below the top or stopped short of it
+        }
+
+        double halfWidth = FallPhysics.PLAYER_WIDTH / 2;
+        boolean xOverlap = currentX + halfWidth > blockX && currentX - halfWidth < blockX + 1.0;
+        boolean zOverlap = currentZ + halfWidth > blockZ && currentZ - halfWidth < blockZ + 1.0;
+        return xOverlap && zOverlap;
+    }
+}
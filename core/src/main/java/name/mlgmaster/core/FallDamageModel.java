@@ -0,0 +1,125 @@
+package name.mlgmaster.core;
+
+/**
+ * Vanilla fall damage arithmetic, independent of game classes. Fall damage ignores armor points
+ * but not Protection or Feather Falling enchantments, Resistance, or absorption hearts.
+ */
+public final class FallDamageModel {
+    public static final double DEFAULT_SAFE_FALL_DISTANCE = 3.0;
+    public static final int MAX_PROTECTION_POINTS = 20;
+    public static final int FEATHER_FALLING_POINTS_PER_LEVEL = 3;
+    public static final int PROTECTION_POINTS_PER_LEVEL = 1;
+    // Landing on an upward dripstone tip adds this much fall distance before its 2x multiplier
+    public static final double DRIPSTONE_EXTRA_FALL_DISTANCE = 2.5;
+
+    private FallDamageModel() {}
+
+    /**
+     * Damage before any reduction: ceil((distance - safe distance) * multipliers), never negative
+     */
+    public static float rawDamage(double fallDistance, double safeFallDistance,
+            double blockMultiplier, double attributeMultiplier) {
+        double excess = fallDistance - safeFallDistance;
+        if (excess <= 0.0) {
+            return 0.0f;
+        }
+        return (float) Math.ceil(excess * blockMultiplier * attributeMultiplier);
+    }
+
+    /**
+     * Enchantment protection points that apply to fall damage, before the cap
+     */
+    public static int protectionPoints(int protectionLevels, int featherFallingLevels) {
+        return protectionLevels * PROTECTION_POINTS_PER_LEVEL
+                + featherFallingLevels * FEATHER_FALLING_POINTS_PER_LEVEL;
+    }
+
+    /**
+     * Resistance removes 20% per level; amplifier -1 means no effect
+     */
+    public static float applyResistance(float damage, int resistanceAmplifier) {
+        if (resistanceAmplifier < 0 || damage <= 0.0f) {
+            return damage;
+        }
+        int reduction = (resistanceAmplifier + 1) * 5;
+        return Math.max(damage * (25 - reduction) / 25.0f, 0.0f);
+    }
+
+    /**
+     * Each protection point removes 4% up to the 80% cap
+     */
+    public static float applyProtection(float damage, int protectionPoints) {
+        if (protectionPoints <= 0 || damage <= 0.0f) {
+            return damage;
+        }
+        int clamped = Math.min(protectionPoints, MAX_PROTECTION_POINTS);
+        return damage * (1.0f - clamped / 25.0f);
+    }
+
+    /**
+     * Health lost on landing after every reduction. Slow Falling stops fall distance from
+     * accumulating, so it always yields zero.
+     */
+    public static float estimateDamage(double fallDistance, double safeFallDistance,
+            double blockMultiplier, double attributeMultiplier, int protectionPoints,
+            int resistanceAmplifier, boolean slowFalling) {
+        if (slowFalling) {
+            return 0.0f;
+        }
+        float damage = rawDamage(fallDistance, safeFallDistance, blockMultiplier,
+                attributeMultiplier);
+        damage = applyResistance(damage, resistanceAmplifier);
+        return applyProtection(damage, protectionPoints);
+    }
+
+    /**
+     * Health left after absorption hearts soak up what they can; zero or less is death
+     */
+    public static float remainingHealth(float damage, float health, float absorption) {
+        float throughAbsorption = Math.max(damage - absorption, 0.0f);
+        return health - throughAbsorption;
+    }
+
+    /**
+     * Fall distance to judge a landing by: the distance already fallen plus the drop left, or the
+     * distance a fall from rest needs to hit as fast as this one will, whichever is larger. The
+     * second catches falls that started with a downward launch the fall distance never saw.
+     */
+    public static double effectiveFallDistance(double fallDistance, double drop,
+            double velocityY) {
+        double impactDistance = fallDistanceForImpactVelocity(impactVelocity(velocityY, drop));
+        return Math.max(fallDistance + drop, impactDistance);
+    }
+
+    /**
+     * Vertical velocity on the tick the feet cover {@code drop} blocks, starting from the given
+     * velocity, in vanilla order: move, then gravity and drag
+     */
+    public static double impactVelocity(double velocityY, double drop) {
+        double fallen = 0.0;
+        double velocity = velocityY;
+        for (int tick = 0; tick < FallSimulator.MAX_SIMULATION_TICKS; tick++) {
+            fallen -= velocity;
+            if (fallen >= drop) {
+                break;
+            }
+            velocity = (velocity + FallPhysics.GRAVITY_ACCELERATION) * FallPhysics.AIR_DRAG;
+        }
+        return velocity;
+    }
+
+    /**
+     * Distance fallen from rest by the time the given downward velocity is reached (blocks per
+     * tick, negative), for callers that only know the impact velocity
+     */
+    public static double fallDistanceForImpactVelocity(double impactVelocityY) {
+        double distance = 0.0;
+        double velocity = 0.0;
+        for (int tick = 0; tick < FallSimulator.MAX_SIMULATION_TICKS && velocity > impactVelocityY;
+                tick++) {
+            velocity = (velocity + FallPhysics.GRAVITY_ACCELERATION) * FallPhysics.AIR_DRAG;
+            distance -= velocity;
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,87 @@
+package name.mlgmaster.core;
+
+/**
+ * Authoritative fall physics constants and closed-form helpers
+ */
+public final class FallPhysics {
+
+    // Core physics constants (authoritative values)
+    public static final double GRAVITY_ACCELERATION = -0.08; // blocks per tick per tick
+    public static final double AIR_DRAG = 0.98; // velocity multiplier each tick
+    public static final double HORIZONTAL_DRAG = 0.91; // horizontal drag when on ground/moving
+    public static final double TERMINAL_VELOCITY = 3.92; // theoretical maximum (blocks/tick)
+
+    // Player dimensions
+    public static final double PLAYER_WIDTH = 0.6;
+    public static final double PLAYER_HEIGHT = 1.8;
+
+    private FallPhysics() {}
+
+    /**
+     * Calculate theoretical velocity at a given tick (pure physics)
+     */
+    public static double calculateVelocityAtTick(double tickTime) {
+        int flooredTick = (int) Math.floor(tickTime);
+        return (Math.pow(AIR_DRAG, flooredTick) - 1) * TERMINAL_VELOCITY;
+    }
+
+    /**
+     * Calculate theoretical distance fallen by a given tick (pure physics)
+     */
+    public static double calculateDistanceFallenAtTick(double tickTime) {
+        return 196 - (TERMINAL_VELOCITY * tickTime) - (194.04 * Math.pow(AIR_DRAG, tickTime - 0.5));
+    }
+
+    /**
+     * Estimate time to fall a given distance using iterative approximation
+     */
+    public static double estimateTimeToFallDistance(double distanceToFall, int maxIterations) {
+        double tickTime = 0;
+        double increment = 1.0;
+
+        for (int i = 0; i < maxIterations; i++) {
+            double currentDistance = calculateDistanceFallenAtTick(tickTime);
+
+            if (Math.abs(currentDistance - distanceToFall) < 0.1) {
+                return tickTime;
+            }
+
+            if (currentDistance < distanceToFall) {
+                tickTime += increment;
+            } else {
+                tickTime -= increment;
+                increment *= 0.5;
+            }
+        }
+
+        return tickTime;
+    }
+
+    /**
+     * Add the held input's acceleration to the state's velocity; vanilla's air travel does this
+     * before the move
+     */
+    public static void applyMovementInput(FallState state) {
+        state.setVelocity(state.getVelocityX() + state.getInputAccelerationX(),
+                state.getVelocityY(), state.getVelocityZ() + state.getInputAccelerationZ());
+    }
+
+    /**
+     * Apply one tick of gravity and drag to the state's velocity; vanilla's air travel does this
+     * after the move, so a tick moves by the velocity it started with
+     */
+    public static void applyPhysicsTick(FallState state) {
+        // Apply gravity to Y velocity, then drag
+        double newY = state.getVelocityY() + GRAVITY_ACCELERATION;
+
+        state.setVelocity(state.getVelocityX() * HORIZONTAL_DRAG, newY * AIR_DRAG,
+                state.getVelocityZ() * HORIZONTAL_DRAG);
+    }
+
+    /**
+     * Check if velocity is near terminal velocity (within 90%)
+     */
+    public static boolean isNearTerminalVelocity(double velocityY) {
+        return Math.abs(velocityY) >= (TERMINAL_VELOCITY * 0.9);
+    }
+}
@@ -0,0 +1,82 @@
+package name.mlgmaster.core;
+
+/**
+ * Tick-by-tick fall simulation with swept landing detection
+ */
+public final class FallSimulator {
+    public static final int MAX_SIMULATION_TICKS = 1000; // safety limit for simulation
+    // Deepest drop the in-game predictor follows before giving up on a landing
+    public static final double DEFAULT_MAX_DROP = 200.0;
+
+    private FallSimulator() {}
+
+    /**
+     * Simulate player movement from the given state until it lands or the default drop limit is
+     * reached. The start state is advanced in place and the outcome is written into
+     * {@code result}.
+     */
+    public static SimulationResult simulate(BlockQuery world, FallState state,
+            SimulationResult result) {
+        return simulate(world, state, result, DEFAULT_MAX_DROP);
+    }
+
+    /**
+     * Simulate until the body lands or has dropped {@code maxDrop} blocks below its start
+     */
+    public static SimulationResult simulate(BlockQuery world, FallState state,
+            SimulationResult result, double maxDrop) {
+        result.begin(state);
+        Trajectory trajectory = result.getTrajectory();
+        double startY = state.getY();
+
+        for (int tick = 0; tick < MAX_SIMULATION_TICKS; tick++) {
+            double currentX = state.getX();
+            double currentY = state.getY();
+            double currentZ = state.getZ();
+
+            // Same order as vanilla's air travel: input, move, then gravity and drag
+            FallPhysics.applyMovementInput(state);
+
+            double nextX = currentX + state.getVelocityX();
+            double nextY = currentY + state.getVelocityY();
+            double nextZ = currentZ + state.getVelocityZ();
+
+            long collisionBlock = CollisionSweep.findFirstCollision(world, currentX, currentY,
+                    currentZ, nextX, nextY, nextZ);
+
+            // A landing stops the feet on the surface but keeps the velocity the body hit with
+            if (collisionBlock != BlockCoords.NONE) {
+                double surfaceY = CollisionSweep.getSurfaceY(world, collisionBlock);
+                trajectory.add(currentX, currentY, currentZ, state.getVelocityX(),
+                        surfaceY - currentY, state.getVelocityZ());
+                state.setPosition(nextX, surfaceY, nextZ);
+                result.complete(true, collisionBlock, tick, state);
+                return result;
+            }
+
+            trajectory.add(currentX, currentY, currentZ, state.getVelocityX(),
+                    state.getVelocityY(), state.getVelocityZ());
+            state.setPosition(nextX, nextY, nextZ);
+
+            FallPhysics.applyPhysicsTick(state);
+
+            // Safety check for extreme falls
+            if (nextY < startY - maxDrop) {
+                break;
+            }
+        }
+
+        // No collision found
+        result.complete(false, BlockCoords.NONE, MAX_SIMULATION_TICKS, state);
+        return result;
+    }
+
+    /**
+     * Convenience overload that allocates a fresh state and result
+     */
+    public static SimulationResult simulate(BlockQuery world, double x, double y, double z,
+            double velocityX, double velocityY, double velocityZ) {
+        return simulate(world, new FallState().set(x, y, z, velocityX, velocityY, velocityZ),
+                new SimulationResult());
+    }
+}
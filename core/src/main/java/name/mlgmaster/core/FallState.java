@@ -0,0 +1,82 @@
+package name.mlgmaster.core;
+
+/**
+ * Mutable primitive position and velocity of a falling body, plus the horizontal acceleration of
+ * any movement input held during the fall
+ */
+public final class FallState {
+    private double x;
+    private double y;
+    private double z;
+    private double velocityX;
+    private double velocityY;
+    private double velocityZ;
+    private double inputAccelerationX;
+    private double inputAccelerationZ;
+
+    public FallState set(double x, double y, double z, double velocityX, double velocityY,
+            double velocityZ) {
+        setPosition(x, y, z);
+        setVelocity(velocityX, velocityY, velocityZ);
+        setInputAcceleration(0.0, 0.0);
+        return this;
+    }
+
+    public void setPosition(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public void setVelocity(double velocityX, double velocityY, double velocityZ) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.velocityZ = velocityZ;
+    }
+
+    /**
+     * Per-tick horizontal acceleration from held input, see {@link MovementInput}
+     */
+    public void setInputAcceleration(double accelerationX, double accelerationZ) {
+        this.inputAccelerationX = accelerationX;
+        this.inputAccelerationZ = accelerationZ;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    public double getVelocityZ() {
+        return velocityZ;
+    }
+
+    public double getInputAccelerationX() {
+        return inputAccelerationX;
+    }
+
+    public double getInputAccelerationZ() {
+        return inputAccelerationZ;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FallState[pos=(%.3f, %.3f, %.3f), vel=(%.3f, %.3f, %.3f)]", x, y, z,
+                velocityX, velocityY, velocityZ);
+    }
+}
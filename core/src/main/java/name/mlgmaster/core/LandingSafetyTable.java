@@ -0,0 +1,155 @@
+package name.mlgmaster.core;
+
+import java.util.Arrays;
+
+/**
+ * Landing classification for every block state, indexed by raw state id. Each class is a bitset
+ * over state ids, so a lookup is a few word reads and the whole table fits in a handful of cache
+ * lines per thousand states. Built by the game layer whenever landing definitions or tags reload;
+ * states outside the table classify as {@link #UNSAFE} with a damage multiplier of 1.
+ */
+public final class LandingSafetyTable {
+    /** Normal fall damage applies */
+    public static final byte UNSAFE = 0;
+    /** Landing here cancels fall damage */
+    public static final byte SAFE = 1;
+    /** Safe only if the player is sneaking on impact (scaffolding) */
+    public static final byte NEEDS_CROUCH = 2;
+    /** Thin cover (carpet) - safety depends on the block underneath */
+    public static final byte NEEDS_BELOW_CHECK = 3;
+
+    private static final String[] CLASS_NAMES = {"unsafe", "safe", "needs-crouch",
+            "needs-below-check"};
+
+    private final int stateCount;
+    // Indexed by class id; UNSAFE has no bitset, it is whatever no other class claims
+    private final long[][] classBits;
+    // States a clutch can create by placing an item (water, slime, powder snow, ...)
+    private final long[] clutchBits;
+    private final float[] damageMultipliers;
+
+    public LandingSafetyTable(int stateCount) {
+        this.stateCount = stateCount;
+        int words = (stateCount + 63) >>> 6;
+        this.classBits = new long[CLASS_NAMES.length][];
+        for (int landingClass = 1; landingClass < CLASS_NAMES.length; landingClass++) {
+            classBits[landingClass] = new long[words];
+        }
+        this.clutchBits = new long[words];
+        this.damageMultipliers = new float[stateCount];
+        Arrays.fill(damageMultipliers, 1.0f);
+    }
+
+    public void set(int stateId, byte landingClass) {
+        long mask = 1L << stateId;
+        int word = stateId >>> 6;
+        for (int other = 1; other < classBits.length; other++) {
+            classBits[other][word] &= ~mask;
+        }
+        if (landingClass != UNSAFE) {
+            classBits[landingClass][word] |= mask;
+        }
+    }
+
+    public void setClutch(int stateId, boolean clutch) {
+        long mask = 1L << stateId;
+        if (clutch) {
+            clutchBits[stateId >>> 6] |= mask;
+        } else {
+            clutchBits[stateId >>> 6] &= ~mask;
+        }
+    }
+
+    public void setDamageMultiplier(int stateId, float multiplier) {
+        damageMultipliers[stateId] = multiplier;
+    }
+
+    public byte classify(int stateId) {
+        if (stateId < 0 || stateId >= stateCount) {
+            return UNSAFE;
+        }
+        int word = stateId >>> 6;
+        long mask = 1L << stateId;
+        for (byte landingClass = 1; landingClass < classBits.length; landingClass++) {
+            if ((classBits[landingClass][word] & mask) != 0) {
+                return landingClass;
+            }
+        }
+        return UNSAFE;
+    }
+
+    /**
+     * Fraction of normal fall damage taken when landing on this state
+     */
+    public float getDamageMultiplier(int stateId) {
+        return stateId >= 0 && stateId < stateCount ? damageMultipliers[stateId] : 1.0f;
+    }
+
+    public boolean isSafe(int stateId) {
+        return stateId >= 0 && stateId < stateCount
+                && (classBits[SAFE][stateId >>> 6] & (1L << stateId)) != 0;
+    }
+
+    /**
+     * Whether placing a clutch item can produce this state
+     */
+    public boolean isClutch(int stateId) {
+        return stateId >= 0 && stateId < stateCount
+                && (clutchBits[stateId >>> 6] & (1L << stateId)) != 0;
+    }
+
+    public int size() {
+        return stateCount;
+    }
+
+    /**
+     * Number of states in each class, indexed by class id
+     */
+    public int[] countByClass() {
+        int[] counts = new int[CLASS_NAMES.length];
+        int classified = 0;
+        for (int landingClass = 1; landingClass < classBits.length; landingClass++) {
+            counts[landingClass] = countBits(classBits[landingClass]);
+            classified += counts[landingClass];
+        }
+        counts[UNSAFE] = stateCount - classified;
+        return counts;
+    }
+
+    public int countClutch() {
+        return countBits(clutchBits);
+    }
+
+    /**
+     * Approximate heap footprint of the backing arrays
+     */
+    public long getByteSize() {
+        long bitsetWords = (long) clutchBits.length * CLASS_NAMES.length;
+        return bitsetWords * Long.BYTES + (long) damageMultipliers.length * Float.BYTES;
+    }
+
+    public static String describe(byte landingClass) {
+        return landingClass >= 0 && landingClass < CLASS_NAMES.length ? CLASS_NAMES[landingClass]
+                : "unknown";
+    }
+
+    /**
+     * Class id for a name as written in landing definitions, or -1 if unknown
+     */
+    public static byte parseClass(String name) {
+        for (byte landingClass = 0; landingClass < CLASS_NAMES.length; landingClass++) {
+            if (CLASS_NAMES[landingClass].equals(name)) {
+                return landingClass;
+            }
+        }
+        return -1;
+    }
+
+    private static int countBits(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
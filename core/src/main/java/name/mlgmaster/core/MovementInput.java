@@ -0,0 +1,80 @@
+package name.mlgmaster.core;
+
+/**
+ * Horizontal acceleration from held movement keys, computed the way vanilla does it: the raw
+ * sideways and forward input is scaled by 0.98 and by the sneaking and item use factors,
+ * normalized if longer than 1, multiplied by the speed of the current medium and rotated by the
+ * yaw into world axes.
+ */
+public final class MovementInput {
+    public static final double INPUT_SCALE = 0.98;
+    public static final double AIR_SPEED = 0.02;
+    public static final double SPRINT_AIR_SPEED = 0.026;
+    public static final double DEFAULT_SLIPPERINESS = 0.6;
+    // Using an item (eating, drawing a bow, raising a shield) slows input to a fifth
+    public static final double ITEM_USE_FACTOR = 0.2;
+    // Ground speed is the movement speed attribute times this over slipperiness cubed
+    public static final double GROUND_SPEED_FACTOR = 0.21600002;
+    private static final double MIN_INPUT_SQUARED = 1.0E-7;
+
+    private MovementInput() {}
+
+    /**
+     * Airborne speed; the movement speed attribute does not apply off the ground
+     */
+    public static double airSpeed(boolean sprinting) {
+        return sprinting ? SPRINT_AIR_SPEED : AIR_SPEED;
+    }
+
+    /**
+     * Ground speed from the movement speed attribute, which already includes sprinting
+     */
+    public static double groundSpeed(double movementSpeed, double slipperiness) {
+        return movementSpeed * (GROUND_SPEED_FACTOR / (slipperiness * slipperiness * slipperiness));
+    }
+
+    /**
+     * Factor the client applies to raw input before it reaches travel: item use, then the
+     * sneaking speed attribute while sneaking or crawling
+     */
+    public static double inputFactor(boolean usingItem, boolean slowedDown, double sneakingSpeed) {
+        double factor = usingItem ? ITEM_USE_FACTOR : 1.0;
+        return slowedDown ? factor * sneakingSpeed : factor;
+    }
+
+    /**
+     * Horizontal drag on the ground, slipperiness times the drag applied everywhere
+     */
+    public static double groundDrag(double slipperiness) {
+        return slipperiness * FallPhysics.HORIZONTAL_DRAG;
+    }
+
+    /**
+     * Store the per-tick acceleration of held input in the state; the raw input is unscaled,
+     * each axis in [-1, 1]
+     */
+    public static FallState apply(FallState state, double sideways, double forward, float yaw,
+            double speed) {
+        sideways *= INPUT_SCALE;
+        forward *= INPUT_SCALE;
+
+        double lengthSquared = sideways * sideways + forward * forward;
+        if (lengthSquared < MIN_INPUT_SQUARED) {
+            state.setInputAcceleration(0.0, 0.0);
+            return state;
+        }
+
+        double scale = speed;
+        if (lengthSquared > 1.0) {
+            scale /= Math.sqrt(lengthSquared);
+        }
+        sideways *= scale;
+        forward *= scale;
+
+        double radians = Math.toRadians(yaw);
+        double sin = Math.sin(radians);
+        double cos = Math.cos(radians);
+        state.setInputAcceleration(sideways * cos - forward * sin, forward * cos + sideways * sin);
+        return state;
+    }
+}
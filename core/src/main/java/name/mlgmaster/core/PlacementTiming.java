@@ -0,0 +1,84 @@
+package name.mlgmaster.core;
+
+/**
+ * Decides when a clutch placement should fire relative to the predicted impact
+ */
+public final class PlacementTiming {
+    public static final int PLACEMENT_BUFFER_TICKS = 1;
+
+    private final int ticksToImpact;
+    private final int optimalPlacementTick;
+    private final double distanceToGround;
+
+    public PlacementTiming(int ticksToImpact, int optimalPlacementTick, double distanceToGround) {
+        this.ticksToImpact = ticksToImpact;
+        this.optimalPlacementTick = optimalPlacementTick;
+        this.distanceToGround = distanceToGround;
+    }
+
+    /**
+     * Calculate precise placement timing from a completed simulation
+     */
+    public static PlacementTiming calculate(SimulationResult simulation, double currentHeight,
+            int landingBlockY) {
+        double groundHeight = landingBlockY + 1.0; // Account for player height
+        int ticksToImpact = simulation.getSimulationTicks();
+
+        return new PlacementTiming(ticksToImpact, optimalPlacementTick(ticksToImpact),
+                currentHeight - groundHeight);
+    }
+
+    /**
+     * Aggressive timing - place when we're very close to impact
+     */
+    public static int optimalPlacementTick(int ticksToImpact) {
+        return Math.max(0, ticksToImpact - PLACEMENT_BUFFER_TICKS);
+    }
+
+    /**
+     * Allocation-free placement decision for the per-tick hot path
+     */
+    public static boolean shouldPlaceNow(int ticksToImpact) {
+        return ticksToImpact <= optimalPlacementTick(ticksToImpact);
+    }
+
+    public boolean shouldPlaceNow() {
+        return ticksToImpact <= optimalPlacementTick;
+    }
+
+    public String getPlacementReason() {
+        return String.format(placementReasonFormat(ticksToImpact, optimalPlacementTick),
+                placementReasonTicks(ticksToImpact, optimalPlacementTick));
+    }
+
+    /**
+     * Format of the placement reason, filled in with {@link #placementReasonTicks}; split so
+     * per-tick callers can defer the formatting until the reason is read
+     */
+    public static String placementReasonFormat(int ticksToImpact, int optimalPlacementTick) {
+        if (ticksToImpact <= 0) {
+            return "Critical timing - impact imminent";
+        } else if (ticksToImpact <= optimalPlacementTick) {
+            return "Optimal timing - %.0f ticks to impact";
+        } else {
+            return "Wait - %.0f ticks until optimal placement";
+        }
+    }
+
+    public static double placementReasonTicks(int ticksToImpact, int optimalPlacementTick) {
+        return ticksToImpact <= optimalPlacementTick ? ticksToImpact
+                : ticksToImpact - optimalPlacementTick;
+    }
+
+    public int getTicksToImpact() {
+        return ticksToImpact;
+    }
+
+    public int getOptimalPlacementTick() {
+        return optimalPlacementTick;
+    }
+
+    public double getDistanceToGround() {
+        return distanceToGround;
+    }
+}
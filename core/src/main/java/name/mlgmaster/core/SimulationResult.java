@@ -0,0 +1,114 @@
+package name.mlgmaster.core;
+
+/**
+ * Outcome of a fall simulation. Instances are mutable so callers on the hot path can reuse one
+ * result (and its trajectory buffer) across simulations.
+ */
+public final class SimulationResult {
+    private final Trajectory trajectory = new Trajectory();
+
+    private boolean collision;
+    private long collisionBlock = BlockCoords.NONE;
+    private int simulationTicks;
+    private double startX;
+    private double startY;
+    private double startZ;
+    private double finalX;
+    private double finalY;
+    private double finalZ;
+    private double finalVelocityX;
+    private double finalVelocityY;
+    private double finalVelocityZ;
+
+    void begin(FallState start) {
+        trajectory.clear();
+        collision = false;
+        collisionBlock = BlockCoords.NONE;
+        simulationTicks = 0;
+        startX = start.getX();
+        startY = start.getY();
+        startZ = start.getZ();
+    }
+
+    void complete(boolean collision, long collisionBlock, int simulationTicks, FallState end) {
+        this.collision = collision;
+        this.collisionBlock = collisionBlock;
+        this.simulationTicks = simulationTicks;
+        this.finalX = end.getX();
+        this.finalY = end.getY();
+        this.finalZ = end.getZ();
+        this.finalVelocityX = end.getVelocityX();
+        this.finalVelocityY = end.getVelocityY();
+        this.finalVelocityZ = end.getVelocityZ();
+    }
+
+    public boolean hasCollision() {
+        return collision;
+    }
+
+    /**
+     * Packed coordinates of the block the fall ends on, or {@link BlockCoords#NONE}
+     */
+    public long getCollisionBlock() {
+        return collisionBlock;
+    }
+
+    public int getSimulationTicks() {
+        return simulationTicks;
+    }
+
+    public Trajectory getTrajectory() {
+        return trajectory;
+    }
+
+    public double getStartX() {
+        return startX;
+    }
+
+    public double getStartY() {
+        return startY;
+    }
+
+    public double getStartZ() {
+        return startZ;
+    }
+
+    public double getFinalX() {
+        return finalX;
+    }
+
+    public double getFinalY() {
+        return finalY;
+    }
+
+    public double getFinalZ() {
+        return finalZ;
+    }
+
+    public double getFinalVelocityX() {
+        return finalVelocityX;
+    }
+
+    public double getFinalVelocityY() {
+        return finalVelocityY;
+    }
+
+    public double getFinalVelocityZ() {
+        return finalVelocityZ;
+    }
+
+    public double getHorizontalDisplacementX() {
+        return finalX - startX;
+    }
+
+    public double getHorizontalDisplacementZ() {
+        return finalZ - startZ;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulationResult[collision=%s, block=%s, ticks=%d, final=(%.3f, %.3f, %.3f)]",
+                collision, BlockCoords.toString(collisionBlock), simulationTicks, finalX, finalY,
+                finalZ);
+    }
+}
@@ -0,0 +1,76 @@
+package name.mlgmaster.core;
+
+import java.util.Arrays;
+
+/**
+ * Per-tick movement history of a simulation, stored in a reusable primitive buffer. Each entry
+ * records the position at the start of the tick and the velocity applied during it. A landing
+ * entry's vertical velocity is the movement left after the collision, so its end position is on
+ * the surface.
+ */
+public final class Trajectory {
+    private static final int STRIDE = 6;
+
+    private double[] data = new double[STRIDE * 64];
+    private int size;
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void add(double startX, double startY, double startZ, double velocityX,
+            double velocityY, double velocityZ) {
+        int offset = size * STRIDE;
+        if (offset + STRIDE > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+
+        data[offset] = startX;
+        data[offset + 1] = startY;
+        data[offset + 2] = startZ;
+        data[offset + 3] = velocityX;
+        data[offset + 4] = velocityY;
+        data[offset + 5] = velocityZ;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getStartX(int tick) {
+        return data[tick * STRIDE];
+    }
+
+    public double getStartY(int tick) {
+        return data[tick * STRIDE + 1];
+    }
+
+    public double getStartZ(int tick) {
+        return data[tick * STRIDE + 2];
+    }
+
+    public double getVelocityX(int tick) {
+        return data[tick * STRIDE + 3];
+    }
+
+    public double getVelocityY(int tick) {
+        return data[tick * STRIDE + 4];
+    }
+
+    public double getVelocityZ(int tick) {
+        return data[tick * STRIDE + 5];
+    }
+
+    public double getEndX(int tick) {
+        return getStartX(tick) + getVelocityX(tick);
+    }
+
+    public double getEndY(int tick) {
+        return getStartY(tick) + getVelocityY(tick);
+    }
+
+    public double getEndZ(int tick) {
+        return getStartZ(tick) + getVelocityZ(tick);
+    }
+}
@@ -0,0 +1,152 @@
+package name.mlgmaster.core.terrain;
+
+import java.util.SplittableRandom;
+import name.mlgmaster.core.BlockQuery;
+import name.mlgmaster.core.FallState;
+
+/**
+ * Dense, bounded block volume exposed through the same {@link BlockQuery} surface the physics
+ * core uses in game. Everything outside the volume reads as air.
+ */
+public final class SyntheticWorld implements BlockQuery {
+    private final String name;
+    private final long seed;
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final byte[] blocks;
+
+    // Region starting states are sampled from
+    private double spawnMinX;
+    private double spawnMaxX;
+    private double spawnMinZ;
+    private double spawnMaxZ;
+    private double spawnMinY;
+    private double spawnMaxY;
+    private double maxHorizontalSpeed;
+
+    public SyntheticWorld(String name, long seed, int originX, int originY, int originZ,
+            int sizeX, int sizeY, int sizeZ) {
+        this.name = name;
+        this.seed = seed;
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.blocks = new byte[sizeX * sizeY * sizeZ];
+    }
+
+    @Override
+    public boolean isSolid(int x, int y, int z) {
+        return TerrainPalette.isSolid(getStateId(x, y, z));
+    }
+
+    @Override
+    public double getCollisionTop(int x, int y, int z) {
+        return TerrainPalette.getCollisionTop(getStateId(x, y, z));
+    }
+
+    @Override
+    public int getStateId(int x, int y, int z) {
+        int index = indexOf(x, y, z);
+        return index < 0 ? TerrainPalette.AIR : blocks[index];
+    }
+
+    public void set(int x, int y, int z, int stateId) {
+        int index = indexOf(x, y, z);
+        if (index >= 0) {
+            blocks[index] = (byte) stateId;
+        }
+    }
+
+    /**
+     * Fill an inclusive box with the given state
+     */
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int stateId) {
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    set(x, y, z, stateId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Highest solid block in the column, or {@code Integer.MIN_VALUE} if the column is empty
+     */
+    public int getTopSolidY(int x, int z) {
+        for (int y = originY + sizeY - 1; y >= originY; y--) {
+            if (isSolid(x, y, z)) {
+                return y;
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Whether anything solid lies in the column containing the given point
+     */
+    public boolean hasFloorAt(double x, double z) {
+        return getTopSolidY((int) Math.floor(x), (int) Math.floor(z)) != Integer.MIN_VALUE;
+    }
+
+    public void setSpawnRegion(double minX, double maxX, double minY, double maxY, double minZ,
+            double maxZ, double maxHorizontalSpeed) {
+        this.spawnMinX = minX;
+        this.spawnMaxX = maxX;
+        this.spawnMinY = minY;
+        this.spawnMaxY = maxY;
+        this.spawnMinZ = minZ;
+        this.spawnMaxZ = maxZ;
+        this.maxHorizontalSpeed = maxHorizontalSpeed;
+    }
+
+    /**
+     * Sample a reproducible starting state from the spawn region: a player just past the start of
+     * a fall with a small random horizontal velocity
+     */
+    public FallState sampleStart(SplittableRandom random, FallState state) {
+        double x = spawnMinX + random.nextDouble() * (spawnMaxX - spawnMinX);
+        double y = spawnMinY + random.nextDouble() * (spawnMaxY - spawnMinY);
+        double z = spawnMinZ + random.nextDouble() * (spawnMaxZ - spawnMinZ);
+        double angle = random.nextDouble() * Math.PI * 2;
+        double speed = random.nextDouble() * maxHorizontalSpeed;
+        double velocityY = -0.08 - random.nextDouble() * 0.5;
+
+        return state.set(x, y, z, Math.cos(angle) * speed, velocityY, Math.sin(angle) * speed);
+    }
+
+    private int indexOf(int x, int y, int z) {
+        int lx = x - originX;
+        int ly = y - originY;
+        int lz = z - originZ;
+        if (lx < 0 || ly < 0 || lz < 0 || lx >= sizeX || ly >= sizeY || lz >= sizeZ) {
+            return -1;
+        }
+        return (ly * sizeZ + lz) * sizeX + lx;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getVolume() {
+        return blocks.length;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SyntheticWorld[%s, seed=%d, size=%dx%dx%d]", name, seed, sizeX,
+                sizeY, sizeZ);
+    }
+}
@@ -0,0 +1,46 @@
+package name.mlgmaster.core.terrain;
+
+/**
+ * Seeded 2D value noise with smoothstep interpolation
+ */
+public final class TerrainNoise {
+    private final long seed;
+    private final double scale;
+
+    public TerrainNoise(long seed, double scale) {
+        this.seed = seed;
+        this.scale = scale;
+    }
+
+    /**
+     * Sample the noise field, returning a value in [0, 1)
+     */
+    public double sample(int x, int z) {
+        double fx = x / scale;
+        double fz = z / scale;
+        int x0 = (int) Math.floor(fx);
+        int z0 = (int) Math.floor(fz);
+        double tx = smooth(fx - x0);
+        double tz = smooth(fz - z0);
+
+        double top = lerp(tx, lattice(x0, z0), lattice(x0 + 1, z0));
+        double bottom = lerp(tx, lattice(x0, z0 + 1), lattice(x0 + 1, z0 + 1));
+        return lerp(tz, top, bottom);
+    }
+
+    private double lattice(int x, int z) {
+        long h = seed ^ (x * 0x9E3779B97F4A7C15L) ^ (z * 0xC2B2AE3D27D4EB4FL);
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return (h >>> 11) * 0x1.0p-53;
+    }
+
+    private static double smooth(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    private static double lerp(double t, double a, double b) {
+        return a + t * (b - a);
+    }
+}
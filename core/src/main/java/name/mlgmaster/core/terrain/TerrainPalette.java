@@ -0,0 +1,59 @@
+package name.mlgmaster.core.terrain;
+
+/**
+ * Block state ids used by synthetic worlds. These are local to the terrain library and do not
+ * correspond to Minecraft's raw state ids.
+ */
+public final class TerrainPalette {
+    public static final int AIR = 0;
+    public static final int STONE = 1;
+    public static final int DIRT = 2;
+    public static final int GRASS_BLOCK = 3;
+    public static final int SLAB = 4;
+    public static final int STAIRS = 5;
+    public static final int SCAFFOLDING = 6;
+    public static final int CARPET = 7;
+    public static final int SLIME_BLOCK = 8;
+    public static final int WATER = 9;
+    public static final int HAY_BLOCK = 10;
+    public static final int SIZE = 11;
+
+    private static final boolean[] SOLID = new boolean[SIZE];
+    private static final String[] NAMES = new String[SIZE];
+    // Collision top above the block's y, matching the block each id is pasted as in game
+    private static final double[] COLLISION_TOPS = new double[SIZE];
+
+    static {
+        define(AIR, "air", false, 0.0);
+        define(STONE, "stone", true, 1.0);
+        define(DIRT, "dirt", true, 1.0);
+        define(GRASS_BLOCK, "grass_block", true, 1.0);
+        define(SLAB, "slab", true, 0.5);
+        define(STAIRS, "stairs", true, 1.0);
+        define(SCAFFOLDING, "scaffolding", true, 1.0);
+        define(CARPET, "carpet", true, 0.0625);
+        define(SLIME_BLOCK, "slime_block", true, 1.0);
+        define(WATER, "water", false, 0.0);
+        define(HAY_BLOCK, "hay_block", true, 1.0);
+    }
+
+    private TerrainPalette() {}
+
+    private static void define(int id, String name, boolean solid, double collisionTop) {
+        NAMES[id] = name;
+        SOLID[id] = solid;
+        COLLISION_TOPS[id] = collisionTop;
+    }
+
+    public static boolean isSolid(int id) {
+        return SOLID[id];
+    }
+
+    public static double getCollisionTop(int id) {
+        return COLLISION_TOPS[id];
+    }
+
+    public static String getName(int id) {
+        return id >= 0 && id < SIZE ? NAMES[id] : "unknown";
+    }
+}
@@ -0,0 +1,147 @@
+package name.mlgmaster.core.terrain;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, procedurally generated fall scenarios. The same scenario and seed always produce the
+ * same world, so benchmark and outcome-matrix runs are reproducible.
+ */
+public enum TerrainScenario {
+    CLIFF {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            int ground = GROUND_Y + random.nextInt(8);
+            int top = ground + 20 + random.nextInt(41);
+            world.fill(MIN_XZ, 0, MIN_XZ, MAX_XZ, ground, MAX_XZ, TerrainPalette.STONE);
+            world.fill(MIN_XZ, ground + 1, MIN_XZ, -1, top, MAX_XZ, TerrainPalette.STONE);
+            world.setSpawnRegion(0.3, 4.0, top + 1.0, top + 2.5, -8, 8, 0.3);
+        }
+    },
+    RAVINE {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            int halfWidth = 1 + random.nextInt(3);
+            int bottom = GROUND_Y - 20 - random.nextInt(31);
+            world.fill(MIN_XZ, 0, MIN_XZ, MAX_XZ, GROUND_Y, MAX_XZ, TerrainPalette.STONE);
+            world.fill(-halfWidth, bottom + 1, MIN_XZ, halfWidth, GROUND_Y, MAX_XZ,
+                    TerrainPalette.AIR);
+            if (random.nextBoolean()) {
+                world.fill(-halfWidth, bottom + 1, MIN_XZ, halfWidth, bottom + 1, MAX_XZ,
+                        TerrainPalette.WATER);
+            }
+            world.setSpawnRegion(-halfWidth, halfWidth + 1.0, GROUND_Y + 1.0, GROUND_Y + 3.0,
+                    -16, 16, 0.1);
+        }
+    },
+    SLAB_STAIRCASE {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            buildStaircase(world, random, TerrainPalette.SLAB);
+        }
+    },
+    STAIR_STAIRCASE {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            buildStaircase(world, random, TerrainPalette.STAIRS);
+        }
+    },
+    SCAFFOLDING_TOWER {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            int height = 20 + random.nextInt(41);
+            int radius = random.nextInt(2);
+            world.fill(MIN_XZ, 0, MIN_XZ, MAX_XZ, GROUND_Y, MAX_XZ, TerrainPalette.GRASS_BLOCK);
+            world.fill(-radius, GROUND_Y + 1, -radius, radius, GROUND_Y + height, radius,
+                    TerrainPalette.SCAFFOLDING);
+            int top = GROUND_Y + height;
+            world.setSpawnRegion(-radius, radius + 1.0, top + 10.0, top + 40.0, -radius,
+                    radius + 1.0, 0.05);
+        }
+    },
+    CARPET_ON_SLIME {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            int radius = 1 + random.nextInt(3);
+            world.fill(MIN_XZ, 0, MIN_XZ, MAX_XZ, GROUND_Y, MAX_XZ, TerrainPalette.GRASS_BLOCK);
+            world.fill(-radius, GROUND_Y, -radius, radius, GROUND_Y, radius,
+                    TerrainPalette.SLIME_BLOCK);
+            world.fill(-radius, GROUND_Y + 1, -radius, radius, GROUND_Y + 1, radius,
+                    TerrainPalette.CARPET);
+            world.setSpawnRegion(-radius, radius + 1.0, GROUND_Y + 25.0, GROUND_Y + 150.0,
+                    -radius, radius + 1.0, 0.05);
+        }
+    },
+    WATER_POOL {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            int radius = 1 + random.nextInt(4);
+            int depth = 1 + random.nextInt(3);
+            world.fill(MIN_XZ, 0, MIN_XZ, MAX_XZ, GROUND_Y, MAX_XZ, TerrainPalette.GRASS_BLOCK);
+            world.fill(-radius, GROUND_Y - depth + 1, -radius, radius, GROUND_Y, radius,
+                    TerrainPalette.WATER);
+            world.setSpawnRegion(-radius, radius + 1.0, GROUND_Y + 20.0, GROUND_Y + 120.0,
+                    -radius, radius + 1.0, 0.1);
+        }
+    },
+    VOID_DROP {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            int platform = WORLD_HEIGHT - 15 - random.nextInt(5);
+            world.fill(MIN_XZ, 0, MIN_XZ, MAX_XZ, 0, MAX_XZ, TerrainPalette.STONE);
+            world.fill(-4, platform, -4, -1, platform, 4, TerrainPalette.STONE);
+            world.setSpawnRegion(0.3, 2.0, platform + 1.0, platform + 2.0, -3, 3, 0.3);
+        }
+    },
+    CAVE_CEILING {
+        @Override
+        protected void build(SyntheticWorld world, SplittableRandom random) {
+            TerrainNoise floorNoise = new TerrainNoise(random.nextLong(), 6.0);
+            TerrainNoise ceilingNoise = new TerrainNoise(random.nextLong(), 4.0);
+            for (int x = MIN_XZ; x <= MAX_XZ; x++) {
+                for (int z = MIN_XZ; z <= MAX_XZ; z++) {
+                    int floor = 20 + (int) (floorNoise.sample(x, z) * 8);
+                    int ceiling = 60 - (int) (ceilingNoise.sample(x, z) * 12);
+                    world.fill(x, 0, z, x, floor, z, TerrainPalette.STONE);
+                    world.fill(x, ceiling, z, x, 80, z, TerrainPalette.STONE);
+                }
+            }
+            world.setSpawnRegion(-8, 8, 40.0, 46.0, -8, 8, 0.2);
+        }
+    };
+
+    public static final int WORLD_HEIGHT = 320;
+    protected static final int GROUND_Y = 64;
+    protected static final int MIN_XZ = -32;
+    protected static final int MAX_XZ = 31;
+
+    /**
+     * Generate this scenario's world for the given seed
+     */
+    public SyntheticWorld generate(long seed) {
+        SyntheticWorld world = new SyntheticWorld(name(), seed, MIN_XZ, 0, MIN_XZ,
+                MAX_XZ - MIN_XZ + 1, WORLD_HEIGHT, MAX_XZ - MIN_XZ + 1);
+        build(world, new SplittableRandom(seed ^ ordinal()));
+        return world;
+    }
+
+    protected abstract void build(SyntheticWorld world, SplittableRandom random);
+
+    /**
+     * Descending staircase along +X topped with the given block
+     */
+    protected static void buildStaircase(SyntheticWorld world, SplittableRandom random,
+            int stepBlock) {
+        int top = GROUND_Y + 20 + random.nextInt(21);
+        int stepDrop = 1 + random.nextInt(3);
+        world.fill(MIN_XZ, 0, MIN_XZ, MAX_XZ, GROUND_Y, MAX_XZ, TerrainPalette.STONE);
+
+        int stepTop = top;
+        for (int x = MIN_XZ; x <= MAX_XZ && stepTop > GROUND_Y; x++) {
+            world.fill(x, GROUND_Y + 1, MIN_XZ, x, stepTop - 1, MAX_XZ, TerrainPalette.STONE);
+            world.fill(x, stepTop, MIN_XZ, x, stepTop, MAX_XZ, stepBlock);
+            stepTop -= stepDrop;
+        }
+
+        world.setSpawnRegion(MIN_XZ, 0, top + 5.0, top + 30.0, -8, 8, 0.2);
+    }
+}
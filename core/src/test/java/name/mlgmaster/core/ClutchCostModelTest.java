@@ -0,0 +1,66 @@
+package name.mlgmaster.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ClutchCostModelTest {
+    private static final double EPSILON = 1.0E-9;
+
+    @Test
+    void acceptanceStartsAtThePrior() {
+        assertEquals(0.9, ClutchCostModel.acceptanceProbability(0, 0), EPSILON);
+    }
+
+    @Test
+    void acceptanceIsSmoothedTowardThePrior() {
+        // Ten straight rejections: 9 / 20, not 0
+        assertEquals(0.45, ClutchCostModel.acceptanceProbability(10, 0), EPSILON);
+        // One confirmation: 10 / 11, not 1
+        assertEquals(10.0 / 11.0, ClutchCostModel.acceptanceProbability(1, 1), EPSILON);
+    }
+
+    @Test
+    void acceptanceConvergesOnTheObservedRate() {
+        double rate = ClutchCostModel.acceptanceProbability(10_000, 2_500);
+        assertEquals(0.25, rate, 0.001);
+        assertTrue(rate > 0.25);
+    }
+
+    @Test
+    void timingFactorNeedsTheLeadTime() {
+        assertEquals(1.0, ClutchCostModel.timingFactor(-1, 3));
+        assertEquals(1.0, ClutchCostModel.timingFactor(3, 3));
+        assertEquals(0.0, ClutchCostModel.timingFactor(2, 3));
+    }
+
+    @Test
+    void reachFactorFallsOffPastReach() {
+        assertEquals(1.0, ClutchCostModel.reachFactor(4.5, 4.5));
+        assertEquals(0.5, ClutchCostModel.reachFactor(5.0, 4.5), EPSILON);
+        assertEquals(0.0, ClutchCostModel.reachFactor(6.0, 4.5));
+    }
+
+    @Test
+    void rotationFactorIsFloored() {
+        assertEquals(1.0, ClutchCostModel.rotationFactor(0.0));
+        assertEquals(0.82, ClutchCostModel.rotationFactor(180.0), EPSILON);
+        assertEquals(ClutchCostModel.MIN_ROTATION_FACTOR, ClutchCostModel.rotationFactor(1000.0));
+    }
+
+    @Test
+    void expectedMarginBlendsOutcomes() {
+        assertEquals(8.0, ClutchCostModel.expectedMargin(0.75, 12.0, -4.0), EPSILON);
+    }
+
+    @Test
+    void rotationDeltaMeasuresViewToTarget() {
+        // Yaw 0 faces +Z; straight down has no horizontal part, so its yaw reads as -90
+        assertEquals(0.0, ClutchCostModel.rotationDelta(0, 0, 0, 0, 0, 5, 0.0f, 0.0f), EPSILON);
+        assertEquals(0.0, ClutchCostModel.rotationDelta(0, 0, 0, 0, -5, 0, -90.0f, 90.0f),
+                EPSILON);
+        assertEquals(180.0, ClutchCostModel.rotationDelta(0, 0, 0, 0, 0, -5, 0.0f, 0.0f),
+                EPSILON);
+    }
+}
@@ -0,0 +1,78 @@
+package name.mlgmaster.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ClutchWindowTest {
+    private static final double EYE_HEIGHT = 1.62;
+    private static final double REACH = 4.5;
+
+    /**
+     * Straight down the center of a column, one block per tick from y = 20
+     */
+    private static Trajectory straightDrop(int ticks) {
+        Trajectory trajectory = new Trajectory();
+        for (int tick = 0; tick < ticks; tick++) {
+            trajectory.add(0.5, 20.0 - tick, 0.5, 0.0, -1.0, 0.0);
+        }
+        return trajectory;
+    }
+
+    @Test
+    void opensWhenTheEyesComeIntoReach() {
+        // Eyes at 21.62 - tick reach a target at y = 1 once tick >= 16.12
+        ClutchWindow window = new ClutchWindow().compute(straightDrop(20), 20, EYE_HEIGHT,
+                0.5, 1.0, 0.5, REACH, 1);
+
+        assertTrue(window.isFeasible());
+        assertEquals(17, window.getOpenTick());
+        assertEquals(19, window.getCloseTick());
+    }
+
+    @Test
+    void boundsAreInclusive() {
+        ClutchWindow window = new ClutchWindow().compute(straightDrop(20), 20, EYE_HEIGHT,
+                0.5, 1.0, 0.5, REACH, 1);
+
+        assertFalse(window.isOpenAt(16));
+        assertTrue(window.isOpenAt(17));
+        assertTrue(window.isOpenAt(19));
+        assertFalse(window.isOpenAt(20));
+    }
+
+    @Test
+    void closesBeforeReachWhenTheLeadIsTooLong() {
+        ClutchWindow window = new ClutchWindow().compute(straightDrop(20), 20, EYE_HEIGHT,
+                0.5, 1.0, 0.5, REACH, 4);
+
+        assertEquals(16, window.getCloseTick());
+        assertEquals(ClutchWindow.NEVER, window.getOpenTick());
+        assertFalse(window.isFeasible());
+        assertFalse(window.isOpenAt(16));
+    }
+
+    @Test
+    void unknownImpactUsesTheTrajectoryLength() {
+        ClutchWindow window = new ClutchWindow().compute(straightDrop(18), -1, EYE_HEIGHT,
+                0.5, 1.0, 0.5, REACH, 0);
+
+        assertEquals(18, window.getCloseTick());
+        assertEquals(17, window.getOpenTick());
+    }
+
+    @Test
+    void reuseResetsThePreviousWindow() {
+        ClutchWindow window = new ClutchWindow().compute(straightDrop(20), 20, EYE_HEIGHT,
+                0.5, 1.0, 0.5, REACH, 1);
+        // Far off to the side, never in reach
+        window.compute(straightDrop(20), 20, EYE_HEIGHT, 50.5, 1.0, 0.5, REACH, 1);
+
+        assertFalse(window.isFeasible());
+
+        window.clear();
+        assertEquals(ClutchWindow.NEVER, window.getCloseTick());
+    }
+}
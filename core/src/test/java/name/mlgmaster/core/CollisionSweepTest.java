@@ -0,0 +1,122 @@
+package name.mlgmaster.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainPalette;
+import org.junit.jupiter.api.Test;
+
+class CollisionSweepTest {
+
+    /**
+     * One block thick stone floor at y = 0, 9 by 9 around the origin
+     */
+    private static SyntheticWorld floor() {
+        SyntheticWorld world = new SyntheticWorld("floor", 0, -4, -4, -4, 9, 16, 9);
+        world.fill(-4, 0, -4, 4, 0, 4, TerrainPalette.STONE);
+        return world;
+    }
+
+    @Test
+    void landsWhenTheFeetReachTheBlockTop() {
+        long block = CollisionSweep.findFirstCollision(floor(), 0.5, 1.2, 0.5, 0.5, 0.7, 0.5);
+
+        assertEquals(BlockCoords.pack(0, 0, 0), block);
+        assertEquals(1.0, CollisionSweep.getSurfaceY(floor(), block));
+    }
+
+    @Test
+    void passesAboveTheFloor() {
+        assertEquals(BlockCoords.NONE,
+                CollisionSweep.findFirstCollision(floor(), 0.5, 2.2, 0.5, 0.5, 1.7, 0.5));
+    }
+
+    @Test
+    void risingNeverLands() {
+        assertFalse(CollisionSweep.wouldPlayerLandOnBlock(0.5, 0.7, 0.5, 1.2, 0, 0, 1.0));
+    }
+
+    @Test
+    void oneTickAtTerminalVelocityDoesNotTunnelThroughAThinFloor() {
+        // Feet start 0.2 above the floor and end below its bottom face
+        double nextY = 1.2 - FallPhysics.TERMINAL_VELOCITY;
+        assertTrue(nextY < 0.0);
+
+        assertTrue(CollisionSweep.wouldPlayerLandOnBlock(0.5, 1.2, 0.5, nextY, 0, 0, 1.0));
+        assertEquals(BlockCoords.pack(0, 0, 0),
+                CollisionSweep.findFirstCollision(floor(), 0.5, 1.2, 0.5, 0.5, nextY, 0.5));
+    }
+
+    @Test
+    void feetAlreadyBelowTheTopDoNotLand() {
+        assertFalse(CollisionSweep.wouldPlayerLandOnBlock(0.5, 0.7, 0.5, -1.5, 0, 0, 1.0));
+    }
+
+    @Test
+    void feetRestingOnTheTopLand() {
+        assertTrue(CollisionSweep.wouldPlayerLandOnBlock(0.5, 1.0, 0.5, 0.9, 0, 0, 1.0));
+    }
+
+    @Test
+    void landsOnTheHighestBlockCrossed() {
+        SyntheticWorld world = floor();
+        world.set(0, 2, 0, TerrainPalette.STONE);
+
+        long block = CollisionSweep.findFirstCollision(world, 0.5, 5.0, 0.5, 0.5, 0.5, 0.5);
+
+        assertEquals(BlockCoords.pack(0, 2, 0), block);
+    }
+
+    @Test
+    void landsOnTheCollisionTopOfThinBlocks() {
+        SyntheticWorld world = floor();
+        world.set(0, 1, 0, TerrainPalette.SLAB);
+        world.set(2, 1, 0, TerrainPalette.CARPET);
+
+        long slab = CollisionSweep.findFirstCollision(world, 0.5, 1.8, 0.5, 0.5, 1.3, 0.5);
+        long carpet = CollisionSweep.findFirstCollision(world, 2.5, 1.2, 0.5, 2.5, 1.05, 0.5);
+
+        assertEquals(BlockCoords.pack(0, 1, 0), slab);
+        assertEquals(1.5, CollisionSweep.getSurfaceY(world, slab));
+        assertEquals(BlockCoords.pack(2, 1, 0), carpet);
+        assertEquals(1.0625, CollisionSweep.getSurfaceY(world, carpet));
+    }
+
+    @Test
+    void feetBetweenASlabTopAndTheNextBlockDoNotLand() {
+        SyntheticWorld world = floor();
+        world.set(0, 1, 0, TerrainPalette.SLAB);
+
+        // Above the slab's top at 1.5 the whole tick, inside where a full block would be
+        assertEquals(BlockCoords.NONE,
+                CollisionSweep.findFirstCollision(world, 0.5, 1.95, 0.5, 0.5, 1.6, 0.5));
+    }
+
+    @Test
+    void needsHorizontalOverlapAtTheStartOfTheTick() {
+        // Hitbox from 1.1 to 1.7 in x overlaps column 1 but not column 0
+        assertFalse(CollisionSweep.wouldPlayerLandOnBlock(1.4, 1.2, 0.5, 0.7, 0, 0, 1.0));
+        assertTrue(CollisionSweep.wouldPlayerLandOnBlock(1.4, 1.2, 0.5, 0.7, 1, 0, 1.0));
+    }
+
+    @Test
+    void prefersTheNearestOfEquallyHighBlocks() {
+        // Hitbox from 0.9 to 1.5 straddles columns 0 and 1; most of it is over column 1
+        assertEquals(BlockCoords.pack(1, 0, 0),
+                CollisionSweep.findFirstCollision(floor(), 1.2, 1.2, 0.5, 1.2, 0.7, 0.5));
+        assertEquals(BlockCoords.pack(0, 0, 0),
+                CollisionSweep.findFirstCollision(floor(), 0.8, 1.2, 0.5, 0.8, 0.7, 0.5));
+    }
+
+    @Test
+    void driftingOverAnEdgeDuringTheTickStillLands() {
+        SyntheticWorld world = new SyntheticWorld("ledge", 0, -4, -4, -4, 9, 16, 9);
+        world.set(0, 0, 0, TerrainPalette.STONE);
+
+        // Vanilla moves vertically first, so the hitbox that lands is the one over the block
+        assertEquals(BlockCoords.pack(0, 0, 0),
+                CollisionSweep.findFirstCollision(world, 0.5, 1.2, 0.5, 2.5, 0.7, 0.5));
+    }
+}
@@ -0,0 +1,102 @@
+package name.mlgmaster.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FallDamageModelTest {
+    private static final float EPSILON = 1.0E-5f;
+
+    @Test
+    void rawDamageRoundsExcessDistanceUp() {
+        assertEquals(0.0f, FallDamageModel.rawDamage(3.0, 3.0, 1.0, 1.0));
+        assertEquals(1.0f, FallDamageModel.rawDamage(3.5, 3.0, 1.0, 1.0));
+        // A 23 block drop is the classic 20 damage, a full health bar
+        assertEquals(20.0f, FallDamageModel.rawDamage(23.0, 3.0, 1.0, 1.0));
+    }
+
+    @Test
+    void rawDamageIsNeverNegative() {
+        assertEquals(0.0f, FallDamageModel.rawDamage(1.0, 3.0, 1.0, 1.0));
+    }
+
+    @Test
+    void rawDamageAppliesBlockAndAttributeMultipliers() {
+        assertEquals(10.0f, FallDamageModel.rawDamage(23.0, 3.0, 0.5, 1.0));
+        assertEquals(5.0f, FallDamageModel.rawDamage(23.0, 3.0, 0.5, 0.5));
+    }
+
+    @Test
+    void protectionPointsWeighFeatherFallingTriple() {
+        assertEquals(4, FallDamageModel.protectionPoints(4, 0));
+        assertEquals(12, FallDamageModel.protectionPoints(0, 4));
+        assertEquals(16, FallDamageModel.protectionPoints(4, 4));
+    }
+
+    @Test
+    void resistanceRemovesTwentyPercentPerLevel() {
+        assertEquals(10.0f, FallDamageModel.applyResistance(10.0f, -1));
+        assertEquals(8.0f, FallDamageModel.applyResistance(10.0f, 0), EPSILON);
+        assertEquals(6.0f, FallDamageModel.applyResistance(10.0f, 1), EPSILON);
+        assertEquals(0.0f, FallDamageModel.applyResistance(10.0f, 4));
+        assertEquals(0.0f, FallDamageModel.applyResistance(10.0f, 9));
+    }
+
+    @Test
+    void protectionIsCappedAtEightyPercent() {
+        assertEquals(10.0f, FallDamageModel.applyProtection(10.0f, 0));
+        assertEquals(6.0f, FallDamageModel.applyProtection(10.0f, 10), EPSILON);
+        assertEquals(2.0f, FallDamageModel.applyProtection(10.0f, 20), EPSILON);
+        assertEquals(2.0f, FallDamageModel.applyProtection(10.0f, 32), EPSILON);
+    }
+
+    @Test
+    void estimateDamageAppliesResistanceBeforeProtection() {
+        // 20 raw, Resistance I leaves 16, 10 points of protection leave 60% of that
+        assertEquals(9.6f, FallDamageModel.estimateDamage(23.0, 3.0, 1.0, 1.0, 10, 0, false),
+                EPSILON);
+        assertEquals(0.0f, FallDamageModel.estimateDamage(100.0, 3.0, 1.0, 1.0, 0, -1, true));
+    }
+
+    @Test
+    void absorptionSoaksDamageFirst() {
+        assertEquals(14.0f, FallDamageModel.remainingHealth(10.0f, 20.0f, 4.0f));
+        assertEquals(20.0f, FallDamageModel.remainingHealth(2.0f, 20.0f, 4.0f));
+        assertTrue(FallDamageModel.remainingHealth(24.0f, 20.0f, 4.0f) <= 0.0f);
+    }
+
+    @Test
+    void impactVelocityMapsBackToFallDistance() {
+        assertEquals(0.0, FallDamageModel.fallDistanceForImpactVelocity(0.0));
+        // One tick from rest falls exactly the first tick's velocity
+        double firstTick = FallPhysics.GRAVITY_ACCELERATION * FallPhysics.AIR_DRAG;
+        assertEquals(-firstTick, FallDamageModel.fallDistanceForImpactVelocity(firstTick), 1.0E-9);
+    }
+
+    @Test
+    void impactVelocityIsTheVelocityOfTheLastMove() {
+        double g = FallPhysics.GRAVITY_ACCELERATION;
+        double d = FallPhysics.AIR_DRAG;
+        // From rest the first move covers nothing, the second covers the first tick's velocity
+        assertEquals(g * d, FallDamageModel.impactVelocity(0.0, 0.05), 1.0E-9);
+        assertEquals(-0.5, FallDamageModel.impactVelocity(-0.5, 0.5), 1.0E-9);
+        assertEquals((-0.5 + g) * d, FallDamageModel.impactVelocity(-0.5, 0.6), 1.0E-9);
+    }
+
+    @Test
+    void effectiveFallDistanceFollowsTheFallDistanceFromRest() {
+        // A fall from rest hits at the speed its own distance implies, within one tick's move
+        double drop = 20.0;
+        double effective = FallDamageModel.effectiveFallDistance(0.0, drop, 0.0);
+        assertTrue(effective >= drop);
+        assertTrue(effective < drop + FallPhysics.TERMINAL_VELOCITY);
+    }
+
+    @Test
+    void effectiveFallDistanceCountsADownwardLaunch() {
+        // Thrown down at 2 blocks per tick, a 4 block drop hits as hard as a long fall
+        assertTrue(FallDamageModel.effectiveFallDistance(0.0, 4.0, -2.0) > 20.0);
+        assertEquals(30.0, FallDamageModel.effectiveFallDistance(26.0, 4.0, -0.1), 1.0E-9);
+    }
+}
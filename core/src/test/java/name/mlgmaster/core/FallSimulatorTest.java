@@ -0,0 +1,153 @@
+package name.mlgmaster.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainPalette;
+import org.junit.jupiter.api.Test;
+
+class FallSimulatorTest {
+    private static final double EPSILON = 1.0E-9;
+
+    private final SimulationResult result = new SimulationResult();
+
+    /**
+     * One block thick stone floor at y = 0, 33 by 33 around the origin
+     */
+    private static SyntheticWorld floor() {
+        SyntheticWorld world = new SyntheticWorld("floor", 0, -16, -4, -16, 33, 8, 33);
+        world.fill(-16, 0, -16, 16, 0, 16, TerrainPalette.STONE);
+        return world;
+    }
+
+    @Test
+    void landsOnTheFloorBelow() {
+        FallState state = new FallState().set(0.5, 20.0, 0.5, 0.0, 0.0, 0.0);
+
+        FallSimulator.simulate(floor(), state, result);
+
+        assertTrue(result.hasCollision());
+        assertEquals(BlockCoords.pack(0, 0, 0), result.getCollisionBlock());
+        assertEquals(result.getSimulationTicks() + 1, result.getTrajectory().size());
+    }
+
+    @Test
+    void trajectoryFollowsGravityAndDrag() {
+        FallState state = new FallState().set(0.5, 20.0, 0.5, 0.0, 0.0, 0.0);
+
+        Trajectory trajectory = FallSimulator.simulate(floor(), state, result).getTrajectory();
+
+        // Vanilla moves by the velocity a tick starts with, then applies gravity and drag
+        double velocity = 0.0;
+        double y = 20.0;
+        for (int tick = 0; tick < trajectory.size() - 1; tick++) {
+            assertEquals(y, trajectory.getStartY(tick), EPSILON);
+            assertEquals(velocity, trajectory.getVelocityY(tick), EPSILON);
+            y += velocity;
+            velocity = (velocity + FallPhysics.GRAVITY_ACCELERATION) * FallPhysics.AIR_DRAG;
+        }
+    }
+
+    @Test
+    void landingStopsTheFeetOnTheSurface() {
+        FallState state = new FallState().set(0.5, 20.0, 0.5, 0.0, 0.0, 0.0);
+
+        Trajectory trajectory = FallSimulator.simulate(floor(), state, result).getTrajectory();
+
+        int last = trajectory.size() - 1;
+        assertEquals(1.0, result.getFinalY(), EPSILON);
+        assertEquals(1.0, trajectory.getEndY(last), EPSILON);
+        assertTrue(trajectory.getStartY(last) >= 1.0);
+        // The result keeps the velocity the body hit with
+        assertTrue(result.getFinalVelocityY() < trajectory.getVelocityY(last));
+    }
+
+    @Test
+    void landsOnASlabHalfABlockUp() {
+        SyntheticWorld world = floor();
+        world.set(0, 1, 0, TerrainPalette.SLAB);
+        FallState state = new FallState().set(0.5, 10.0, 0.5, 0.0, 0.0, 0.0);
+
+        FallSimulator.simulate(world, state, result);
+
+        assertEquals(BlockCoords.pack(0, 1, 0), result.getCollisionBlock());
+        assertEquals(1.5, result.getFinalY(), EPSILON);
+    }
+
+    @Test
+    void firstTickMovesByTheStartingVelocity() {
+        FallState state = new FallState().set(0.5, 20.0, 0.5, 0.1, -0.5, 0.0);
+
+        Trajectory trajectory = FallSimulator.simulate(floor(), state, result).getTrajectory();
+
+        assertEquals(19.5, trajectory.getStartY(1), EPSILON);
+        assertEquals(0.6, trajectory.getStartX(1), EPSILON);
+        assertEquals((-0.5 + FallPhysics.GRAVITY_ACCELERATION) * FallPhysics.AIR_DRAG,
+                trajectory.getVelocityY(1), EPSILON);
+    }
+
+    @Test
+    void horizontalVelocityDecaysByDrag() {
+        FallState state = new FallState().set(0.5, 20.0, 0.5, 0.2, 0.0, 0.0);
+
+        Trajectory trajectory = FallSimulator.simulate(floor(), state, result).getTrajectory();
+
+        assertEquals(0.2, trajectory.getVelocityX(0), EPSILON);
+        assertEquals(0.2 * FallPhysics.HORIZONTAL_DRAG, trajectory.getVelocityX(1), EPSILON);
+        assertEquals(0.0, trajectory.getVelocityZ(1));
+    }
+
+    @Test
+    void heldInputAcceleratesBeforeTheMove() {
+        FallState state = new FallState().set(0.5, 20.0, 0.5, 0.0, 0.0, 0.0);
+        state.setInputAcceleration(0.0, 0.02);
+
+        Trajectory trajectory = FallSimulator.simulate(floor(), state, result).getTrajectory();
+
+        assertEquals(0.02, trajectory.getVelocityZ(0), EPSILON);
+        assertEquals(0.02 * FallPhysics.HORIZONTAL_DRAG + 0.02, trajectory.getVelocityZ(1),
+                EPSILON);
+    }
+
+    @Test
+    void stopsFollowingAtTheDropLimit() {
+        SyntheticWorld empty = new SyntheticWorld("empty", 0, 0, 0, 0, 1, 1, 1);
+        FallState state = new FallState().set(0.5, 100.0, 0.5, 0.0, 0.0, 0.0);
+
+        FallSimulator.simulate(empty, state, result, 50.0);
+
+        assertFalse(result.hasCollision());
+        assertEquals(BlockCoords.NONE, result.getCollisionBlock());
+        assertTrue(result.getFinalY() < 50.0);
+        assertTrue(result.getFinalY() > 50.0 - FallPhysics.TERMINAL_VELOCITY);
+    }
+
+    @Test
+    void terminalVelocityFallStillLandsOnAThinFloor() {
+        FallState state = new FallState().set(0.5, 300.0, 0.5, 0.0, -3.5, 0.0);
+
+        FallSimulator.simulate(floor(), state, result, 400.0);
+
+        assertTrue(result.hasCollision());
+        assertEquals(BlockCoords.pack(0, 0, 0), result.getCollisionBlock());
+    }
+
+    @Test
+    void reusedStateAndResultGiveTheSameOutcome() {
+        SyntheticWorld world = floor();
+        FallState state = new FallState();
+
+        FallSimulator.simulate(world, state.set(3.2, 40.0, -1.7, 0.1, 0.3, -0.05), result);
+        int ticks = result.getSimulationTicks();
+        long block = result.getCollisionBlock();
+        double finalY = result.getFinalY();
+
+        FallSimulator.simulate(world, state.set(3.2, 40.0, -1.7, 0.1, 0.3, -0.05), result);
+
+        assertEquals(ticks, result.getSimulationTicks());
+        assertEquals(block, result.getCollisionBlock());
+        assertEquals(finalY, result.getFinalY());
+    }
+}
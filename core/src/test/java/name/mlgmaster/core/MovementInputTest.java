@@ -0,0 +1,82 @@
+package name.mlgmaster.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class MovementInputTest {
+    private static final double EPSILON = 1.0E-9;
+    private static final double SPEED = MovementInput.AIR_SPEED;
+
+    private final FallState state = new FallState();
+
+    @Test
+    void forwardAtYawZeroMovesTowardPositiveZ() {
+        MovementInput.apply(state, 0.0, 1.0, 0.0f, SPEED);
+
+        assertEquals(0.0, state.getInputAccelerationX(), EPSILON);
+        assertEquals(MovementInput.INPUT_SCALE * SPEED, state.getInputAccelerationZ(), EPSILON);
+    }
+
+    @Test
+    void forwardAtYawNinetyMovesTowardNegativeX() {
+        MovementInput.apply(state, 0.0, 1.0, 90.0f, SPEED);
+
+        assertEquals(-MovementInput.INPUT_SCALE * SPEED, state.getInputAccelerationX(), EPSILON);
+        assertEquals(0.0, state.getInputAccelerationZ(), EPSILON);
+    }
+
+    @Test
+    void strafingLeftAtYawZeroMovesTowardPositiveX() {
+        MovementInput.apply(state, 1.0, 0.0, 0.0f, SPEED);
+
+        assertEquals(MovementInput.INPUT_SCALE * SPEED, state.getInputAccelerationX(), EPSILON);
+        assertEquals(0.0, state.getInputAccelerationZ(), EPSILON);
+    }
+
+    @Test
+    void diagonalInputIsNormalized() {
+        MovementInput.apply(state, 1.0, 1.0, 30.0f, SPEED);
+
+        double x = state.getInputAccelerationX();
+        double z = state.getInputAccelerationZ();
+        assertEquals(SPEED, Math.sqrt(x * x + z * z), EPSILON);
+    }
+
+    @Test
+    void rotationPreservesMagnitude() {
+        for (float yaw = -180.0f; yaw <= 180.0f; yaw += 15.0f) {
+            MovementInput.apply(state, 0.3, -0.6, yaw, SPEED);
+
+            double x = state.getInputAccelerationX();
+            double z = state.getInputAccelerationZ();
+            double expected = MovementInput.INPUT_SCALE * SPEED * Math.sqrt(0.3 * 0.3 + 0.6 * 0.6);
+            assertEquals(expected, Math.sqrt(x * x + z * z), EPSILON);
+        }
+    }
+
+    @Test
+    void noInputClearsTheAcceleration() {
+        MovementInput.apply(state, 0.0, 1.0, 0.0f, SPEED);
+        MovementInput.apply(state, 0.0, 0.0, 0.0f, SPEED);
+
+        assertEquals(0.0, state.getInputAccelerationX());
+        assertEquals(0.0, state.getInputAccelerationZ());
+    }
+
+    @Test
+    void inputFactorCombinesItemUseAndSneaking() {
+        assertEquals(1.0, MovementInput.inputFactor(false, false, 0.3));
+        assertEquals(0.2, MovementInput.inputFactor(true, false, 0.3), EPSILON);
+        assertEquals(0.3, MovementInput.inputFactor(false, true, 0.3), EPSILON);
+        assertEquals(0.06, MovementInput.inputFactor(true, true, 0.3), EPSILON);
+    }
+
+    @Test
+    void groundSpeedMatchesTheAttributeOnDefaultBlocks() {
+        assertEquals(0.1, MovementInput.groundSpeed(0.1, MovementInput.DEFAULT_SLIPPERINESS),
+                1.0E-6);
+        assertEquals(0.546, MovementInput.groundDrag(MovementInput.DEFAULT_SLIPPERINESS),
+                EPSILON);
+    }
+}
@@ -0,0 +1,90 @@
+package name.mlgmaster.gametest;
+
+import java.util.Arrays;
+
+/**
+ * Success rate, placement timing and confirmation latency distributions of one clutch type under
+ * one network condition
+ */
+public class ClutchStats {
+    private final String label;
+    private int attempts;
+    private int successes;
+    private int placements;
+    private long[] placementTicks = new long[64];
+    private long[] impactMargins = new long[64];
+    private int confirmations;
+    private long[] confirmationMicros = new long[64];
+
+    public ClutchStats(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Record one scripted fall
+     *
+     * @param placementTick client ticks from fall start until the server saw the clutch item
+     *        used, or -1 if it never was
+     * @param impactMarginTicks ticks between that placement and landing
+     * @param confirmationMillis time from sending the placement to the server confirming it, as
+     *        measured by {@link name.mlgmaster.MLGMetrics}, or -1 if it was never confirmed
+     */
+    public void record(boolean survived, long placementTick, long impactMarginTicks,
+            double confirmationMillis) {
+        attempts++;
+        if (survived) {
+            successes++;
+        }
+        if (placementTick >= 0) {
+            if (placements == placementTicks.length) {
+                placementTicks = Arrays.copyOf(placementTicks, placements * 2);
+                impactMargins = Arrays.copyOf(impactMargins, placements * 2);
+            }
+            placementTicks[placements] = placementTick;
+            impactMargins[placements] = impactMarginTicks;
+            placements++;
+        }
+        if (confirmationMillis >= 0) {
+            if (confirmations == confirmationMicros.length) {
+                confirmationMicros = Arrays.copyOf(confirmationMicros, confirmations * 2);
+            }
+            confirmationMicros[confirmations++] = Math.round(confirmationMillis * 1000.0);
+        }
+    }
+
+    public double getSuccessRate() {
+        return attempts == 0 ? 0 : (double) successes / attempts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CLUTCH[%s] success=%d/%d (%.1f%%) placements=%d placementTick p50/p90/p99=%s "
+                        + "impactMargin p50/p90/p99=%s confirmations=%d "
+                        + "confirmLatency p50/p90/p99=%s",
+                label, successes, attempts, getSuccessRate() * 100, placements,
+                percentiles(placementTicks, placements, 1.0, " ticks"),
+                percentiles(impactMargins, placements, 1.0, " ticks"), confirmations,
+                percentiles(confirmationMicros, confirmations, 1000.0, "ms"));
+    }
+
+    private static String percentiles(long[] values, int count, double divisor, String unit) {
+        if (count == 0) {
+            return "-";
+        }
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        return format(sorted[percentileIndex(0.5, count)] / divisor) + "/"
+                + format(sorted[percentileIndex(0.9, count)] / divisor) + "/"
+                + format(sorted[percentileIndex(0.99, count)] / divisor) + unit;
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value)
+                : String.format("%.1f", value);
+    }
+
+    private static int percentileIndex(double percentile, int count) {
+        return Math.min(count - 1, (int) Math.ceil(percentile * count) - 1);
+    }
+}
@@ -0,0 +1,180 @@
+package name.mlgmaster.gametest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import name.mlgmaster.MLGHandler;
+import name.mlgmaster.MLGMetrics;
+import name.mlgmaster.MLGType;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainScenario;
+import net.fabricmc.fabric.api.client.gametest.v1.FabricClientGameTest;
+import net.fabricmc.fabric.api.client.gametest.v1.context.ClientGameTestContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestServerContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestSingleplayerContext;
+import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
+import net.minecraft.item.Item;
+import net.minecraft.registry.tag.DamageTypeTags;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * End-to-end clutch benchmark. Runs the real {@link MLGHandler} pipeline in a client connected to
+ * an integrated server, replays scripted falls from the synthetic terrain library under injected
+ * network latency and frame-time jitter, and reports success rate, placement tick and server
+ * confirmation latency distributions per {@link MLGType}. Fall damage is cancelled and counted
+ * rather than applied, so one world serves every run. Every registered type is benchmarked with
+ * its own first clutch item.
+ *
+ * Tunables (system properties): {@code mlgmaster.benchmark.seeds}, {@code .starts},
+ * {@code .pings} (comma separated round-trip milliseconds) and {@code .jitter} (max frame stall in
+ * milliseconds).
+ */
+public class ClutchSuccessBenchmark implements FabricClientGameTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger("mlgmaster-gametest");
+
+    private static final TerrainScenario[] SCENARIOS = {TerrainScenario.CLIFF,
+            TerrainScenario.RAVINE, TerrainScenario.SLAB_STAIRCASE,
+            TerrainScenario.SCAFFOLDING_TOWER, TerrainScenario.VOID_DROP};
+    private static final int MAX_FALL_TICKS = 200;
+    private static final int SETTLE_TICKS = 5;
+
+    private static final AtomicInteger fallDamageEvents = new AtomicInteger();
+
+    @Override
+    public void runTest(ClientGameTestContext context) {
+        int seeds = Integer.getInteger("mlgmaster.benchmark.seeds", 2);
+        int starts = Integer.getInteger("mlgmaster.benchmark.starts", 2);
+        int jitterMillis = Integer.getInteger("mlgmaster.benchmark.jitter", 10);
+        long[] pings = parsePings(System.getProperty("mlgmaster.benchmark.pings", "0,50,150,300"));
+
+        ServerLivingEntityEvents.ALLOW_DAMAGE.register((entity, source, amount) -> {
+            if (entity instanceof ServerPlayerEntity && source.isIn(DamageTypeTags.IS_FALL)) {
+                fallDamageEvents.incrementAndGet();
+                return false;
+            }
+            return true;
+        });
+
+        List<ClutchStats> results = new ArrayList<>();
+
+        try (TestSingleplayerContext singleplayer = context.worldBuilder().create()) {
+            TestServerContext server = singleplayer.getServer();
+            server.runCommand("gamemode survival @a");
+            server.runCommand("gamerule doDaylightCycle false");
+            server.runCommand("gamerule doMobSpawning false");
+            server.runCommand("tp @a 0 100 0");
+            singleplayer.getClientWorld().waitForChunksRender();
+
+            LatencyInjector latency = context.computeOnClient(
+                    client -> LatencyInjector.install(client.getNetworkHandler().getConnection()));
+            Random jitter = new Random(0);
+
+            for (MLGType type : MLGHandler.getRegisteredTypes()) {
+                // Each type is benchmarked with its first clutch item, the only one in reach
+                Item[] clutchItems = type.getClutchItems();
+                if (clutchItems.length == 0) {
+                    throw new AssertionError(type.getName() + " has no clutch item to benchmark");
+                }
+                Item item = clutchItems[0];
+
+                for (long ping : pings) {
+                    latency.setRoundTripMillis(ping);
+                    ClutchStats stats = new ClutchStats(String.format("%s ping=%dms jitter<=%dms",
+                            type.getName(), ping, jitterMillis));
+
+                    for (TerrainScenario scenario : SCENARIOS) {
+                        for (int seed = 0; seed < seeds; seed++) {
+                            SyntheticWorld terrain = scenario.generate(seed);
+                            SplittableRandom random = new SplittableRandom(seed);
+                            for (int i = 0; i < starts; i++) {
+                                FallState start = terrain.sampleStart(random, new FallState());
+                                runFall(context, server, terrain, start, item, jitterMillis,
+                                        jitter, stats);
+                            }
+                        }
+                    }
+
+                    LOGGER.info("{}", stats);
+                    results.add(stats);
+                }
+            }
+
+            latency.setRoundTripMillis(0);
+        }
+
+        writeReport(context, results);
+    }
+
+    private void runFall(ClientGameTestContext context, TestServerContext server,
+            SyntheticWorld terrain, FallState start, Item item, int jitterMillis, Random jitter,
+            ClutchStats stats) {
+        ScriptedFalls.launch(context, server, terrain, start, item);
+
+        int damageBefore = fallDamageEvents.get();
+        long confirmedBefore = context.computeOnClient(client -> MLGMetrics.getConfirmed());
+        int initialCount = ScriptedFalls.countOnServer(server, item);
+        int placementTick = -1;
+        int landingTick = -1;
+
+        for (int tick = 1; tick <= MAX_FALL_TICKS; tick++) {
+            context.waitTick();
+            if (jitterMillis > 0) {
+                int stall = jitter.nextInt(jitterMillis + 1);
+                context.runOnClient(client -> Thread.sleep(stall));
+            }
+
+            if (placementTick < 0 && ScriptedFalls.countOnServer(server, item) < initialCount) {
+                placementTick = tick;
+            }
+
+            if (ScriptedFalls.hasLanded(context)) {
+                landingTick = tick;
+                break;
+            }
+        }
+
+        context.waitTicks(SETTLE_TICKS);
+        boolean survived = landingTick > 0 && fallDamageEvents.get() == damageBefore;
+        long impactMargin = placementTick > 0 && landingTick > 0
+                ? landingTick - placementTick
+                : -1;
+        // Measured by the placement tracker from send to server confirmation, not tick counted
+        double confirmationMillis = context.computeOnClient(
+                client -> MLGMetrics.getConfirmed() > confirmedBefore
+                        ? MLGMetrics.getLastConfirmationMillis()
+                        : -1.0);
+        stats.record(survived, placementTick, impactMargin, confirmationMillis);
+    }
+
+    private static long[] parsePings(String value) {
+        String[] parts = value.split(",");
+        long[] pings = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            pings[i] = Long.parseLong(parts[i].trim());
+        }
+        return pings;
+    }
+
+    private void writeReport(ClientGameTestContext context, List<ClutchStats> results) {
+        Path report = context.computeOnClient(client -> client.runDirectory.toPath())
+                .resolve("mlgmaster-clutch-benchmark.txt");
+        List<String> lines = new ArrayList<>();
+        for (ClutchStats stats : results) {
+            lines.add(stats.toString());
+        }
+        try {
+            Files.write(report, lines);
+            LOGGER.info("Clutch benchmark report written to {}", report);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write clutch benchmark report: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package name.mlgmaster.gametest;
+
+import name.mlgmaster.core.BlockCoords;
+
+/**
+ * Prediction error of one golden trajectory, checked against fixed error budgets. Every falling
+ * tick of error shrinks the placement window, so these numbers are tracked like benchmarks.
+ *
+ * The predictor follows vanilla's air travel order and lands the feet on a block's collision top,
+ * so what is left is rounding and the small-velocity cutoff vanilla applies near the top of a
+ * jump. A fall that breaks these budgets means the predictor and vanilla have diverged.
+ */
+public class ConformanceReport {
+    public static final double MAX_VERTICAL_ERROR = 0.25;
+    public static final double MAX_HORIZONTAL_ERROR = 0.1;
+    public static final int MAX_LANDING_TICK_DELTA = 1;
+
+    private final String label;
+    private final int recordedTicks;
+    private final int comparedTicks;
+    private final double maxVerticalError;
+    private final double maxHorizontalError;
+    private final int predictedLandingTick;
+    private final int actualLandingTick;
+    private final long predictedLandingBlock;
+    private final long actualLandingBlock;
+
+    public ConformanceReport(String label, int recordedTicks, int comparedTicks,
+            double maxVerticalError, double maxHorizontalError, int predictedLandingTick,
+            int actualLandingTick, long predictedLandingBlock, long actualLandingBlock) {
+        this.label = label;
+        this.recordedTicks = recordedTicks;
+        this.comparedTicks = comparedTicks;
+        this.maxVerticalError = maxVerticalError;
+        this.maxHorizontalError = maxHorizontalError;
+        this.predictedLandingTick = predictedLandingTick;
+        this.actualLandingTick = actualLandingTick;
+        this.predictedLandingBlock = predictedLandingBlock;
+        this.actualLandingBlock = actualLandingBlock;
+    }
+
+    /**
+     * Returns the first exceeded budget, or null when the prediction conforms
+     */
+    public String findBudgetViolation() {
+        if (actualLandingTick < 0) {
+            return "entity never landed";
+        }
+        if (predictedLandingTick < 0) {
+            return "predictor found no landing";
+        }
+        if (predictedLandingBlock != actualLandingBlock) {
+            return "landing block mismatch";
+        }
+        if (Math.abs(predictedLandingTick - actualLandingTick) > MAX_LANDING_TICK_DELTA) {
+            return "landing tick off by " + (predictedLandingTick - actualLandingTick);
+        }
+        if (maxVerticalError > MAX_VERTICAL_ERROR) {
+            return String.format("vertical error %.3f exceeds %.3f", maxVerticalError,
+                    MAX_VERTICAL_ERROR);
+        }
+        if (maxHorizontalError > MAX_HORIZONTAL_ERROR) {
+            return String.format("horizontal error %.3f exceeds %.3f", maxHorizontalError,
+                    MAX_HORIZONTAL_ERROR);
+        }
+        return null;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public double getMaxVerticalError() {
+        return maxVerticalError;
+    }
+
+    public double getMaxHorizontalError() {
+        return maxHorizontalError;
+    }
+
+    public int getLandingTickDelta() {
+        return predictedLandingTick - actualLandingTick;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CONFORMANCE[%s] ticks=%d compared=%d maxErrorY=%.4f maxErrorXZ=%.4f "
+                        + "landingTick=%d/%d landingBlock=%s/%s",
+                label, recordedTicks, comparedTicks, maxVerticalError, maxHorizontalError,
+                predictedLandingTick, actualLandingTick,
+                BlockCoords.toString(predictedLandingBlock),
+                BlockCoords.toString(actualLandingBlock));
+    }
+}
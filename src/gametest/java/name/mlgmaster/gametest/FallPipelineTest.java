@@ -0,0 +1,97 @@
+package name.mlgmaster.gametest;
+
+import java.util.SplittableRandom;
+import name.mlgmaster.FallPlan;
+import name.mlgmaster.FallPredictionSystem;
+import name.mlgmaster.MLGPredictionResult;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainScenario;
+import net.fabricmc.fabric.api.client.gametest.v1.FabricClientGameTest;
+import net.fabricmc.fabric.api.client.gametest.v1.context.ClientGameTestContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestServerContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestSingleplayerContext;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Checks the fall pipeline against the real client. An undisturbed fall has to keep the plan it
+ * compiled instead of replanning every tick, which only holds while the predictor matches
+ * vanilla's air travel. A landing whose target is still out of reach has to be reported as a
+ * landing, so the plan can carry it until the target comes into range.
+ */
+public class FallPipelineTest implements FabricClientGameTest {
+    private static final int FALLS = 4;
+    private static final int MAX_FALL_TICKS = 200;
+    private static final int FLOOR_Y = 100;
+    private static final int FLOOR_RADIUS = 3;
+    // Far beyond placement reach from the floor
+    private static final double TOO_FAR_HEIGHT = 30.0;
+
+    @Override
+    public void runTest(ClientGameTestContext context) {
+        try (TestSingleplayerContext singleplayer = context.worldBuilder().create()) {
+            TestServerContext server = singleplayer.getServer();
+            server.runCommand("gamemode survival @a");
+            // The falls are about plan reuse, not survival
+            server.runCommand("gamerule fallDamage false");
+            server.runCommand("tp @a 0 100 0");
+            singleplayer.getClientWorld().waitForChunksRender();
+
+            testTargetTooFarStillReportsTheLanding(context, server);
+            testCleanFallKeepsItsPlan(context, server);
+        }
+    }
+
+    private void testTargetTooFarStillReportsTheLanding(ClientGameTestContext context,
+            TestServerContext server) {
+        server.runCommand(String.format("fill %d %d %d %d %d %d stone", -FLOOR_RADIUS, FLOOR_Y,
+                -FLOOR_RADIUS, FLOOR_RADIUS, FLOOR_Y, FLOOR_RADIUS));
+        server.runCommand(String.format("fill %d %d %d %d %d %d air", -FLOOR_RADIUS, FLOOR_Y + 1,
+                -FLOOR_RADIUS, FLOOR_RADIUS, FLOOR_Y + (int) TOO_FAR_HEIGHT + 2, FLOOR_RADIUS));
+        ScriptedFalls.teleport(context, server, 0.5, FLOOR_Y + 1.0, 0.5);
+
+        Vec3d start = new Vec3d(0.5, FLOOR_Y + 1.0 + TOO_FAR_HEIGHT, 0.5);
+        Vec3d velocity = new Vec3d(0.0, -0.5, 0.0);
+        MLGPredictionResult prediction = context.computeOnClient(client -> FallPredictionSystem
+                .analyzeFallFrom(client, client.player, start, velocity));
+
+        if (!prediction.willLand() || prediction.getHighestLandingBlock() == null) {
+            throw new AssertionError("Out of range fall lost its landing: " + prediction);
+        }
+        if (prediction.shouldPlace() || prediction.getPlacementTarget() == null
+                || !prediction.getReason().startsWith("Target too far")) {
+            throw new AssertionError("Out of range fall not reported as too far: " + prediction);
+        }
+    }
+
+    private void testCleanFallKeepsItsPlan(ClientGameTestContext context,
+            TestServerContext server) {
+        SyntheticWorld terrain = TerrainScenario.CLIFF.generate(0);
+        SplittableRandom random = new SplittableRandom(0);
+
+        for (int fall = 0; fall < FALLS; fall++) {
+            long compilesBefore = context.computeOnClient(client -> FallPlan.getCompiles());
+            long verifiedBefore = context.computeOnClient(client -> FallPlan.getVerifiedTicks());
+
+            ScriptedFalls.launch(context, server, terrain,
+                    terrain.sampleStart(random, new FallState()), Items.WATER_BUCKET);
+            for (int tick = 0; tick < MAX_FALL_TICKS && !ScriptedFalls.hasLanded(context);
+                    tick++) {
+                context.waitTick();
+            }
+
+            long compiles = context.computeOnClient(client -> FallPlan.getCompiles())
+                    - compilesBefore;
+            long verified = context.computeOnClient(client -> FallPlan.getVerifiedTicks())
+                    - verifiedBefore;
+            if (compiles == 0) {
+                throw new AssertionError("Fall " + fall + " never compiled a plan");
+            }
+            if (verified == 0) {
+                throw new AssertionError("Fall " + fall + " replanned on every tick ("
+                        + compiles + " compiles, no verified ticks)");
+            }
+        }
+    }
+}
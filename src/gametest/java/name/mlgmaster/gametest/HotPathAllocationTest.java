@@ -0,0 +1,122 @@
+package name.mlgmaster.gametest;
+
+import java.util.SplittableRandom;
+import name.mlgmaster.HotPathProbe;
+import name.mlgmaster.MLGHandler;
+import name.mlgmaster.core.AllocationMeter;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainScenario;
+import net.fabricmc.fabric.api.client.gametest.v1.FabricClientGameTest;
+import net.fabricmc.fabric.api.client.gametest.v1.context.ClientGameTestContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestServerContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestSingleplayerContext;
+import net.minecraft.item.Items;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Allocation gate for {@link MLGHandler#onHighFrequencyTick}. Drives the real handler through
+ * representative water-clutch falls, reports the bytes each call of the prediction, evaluation
+ * and placement stage allocates and fails when a stage averages over its budget.
+ *
+ * Ticks where the fall plan holds should allocate nothing. The budgets cover the ticks that
+ * replan: prediction builds a fresh simulation, its trajectory buffer and the result objects
+ * around it, about 5 KB once or twice per fall, and evaluation scores the clutch types on those
+ * same ticks. Placement is allowed the packets it has to send. Lower a budget whenever the logged
+ * average drops well below it.
+ */
+public class HotPathAllocationTest implements FabricClientGameTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger("mlgmaster-gametest");
+
+    // Average bytes allocated per stage call, indexed by HotPathProbe stage
+    private static final double[] BUDGETS = {512.0, 256.0, 1024.0};
+
+    private static final TerrainScenario[] SCENARIOS = {TerrainScenario.CLIFF,
+            TerrainScenario.RAVINE, TerrainScenario.SCAFFOLDING_TOWER,
+            TerrainScenario.CARPET_ON_SLIME};
+    private static final int WARMUP_FALLS = 4;
+    private static final int SEEDS = 2;
+    private static final int STARTS = 2;
+    private static final int MAX_FALL_TICKS = 200;
+
+    @Override
+    public void runTest(ClientGameTestContext context) {
+        AllocationMeter meter = new AllocationMeter("prediction", "evaluation", "placement");
+
+        try (TestSingleplayerContext singleplayer = context.worldBuilder().create()) {
+            TestServerContext server = singleplayer.getServer();
+            server.runCommand("gamemode survival @a");
+            server.runCommand("tp @a 0 100 0");
+            singleplayer.getClientWorld().waitForChunksRender();
+
+            context.runOnClient(client -> MLGHandler.setHotPathProbe(new MeterProbe(meter)));
+
+            SyntheticWorld warmupTerrain = TerrainScenario.CLIFF.generate(0);
+            SplittableRandom warmupRandom = new SplittableRandom(0);
+            for (int i = 0; i < WARMUP_FALLS; i++) {
+                runFall(context, server, warmupTerrain,
+                        warmupTerrain.sampleStart(warmupRandom, new FallState()));
+            }
+            context.runOnClient(client -> meter.reset());
+
+            for (TerrainScenario scenario : SCENARIOS) {
+                for (int seed = 0; seed < SEEDS; seed++) {
+                    SyntheticWorld terrain = scenario.generate(seed);
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < STARTS; i++) {
+                        runFall(context, server, terrain,
+                                terrain.sampleStart(random, new FallState()));
+                    }
+                }
+            }
+
+            context.runOnClient(client -> MLGHandler.setHotPathProbe(HotPathProbe.NONE));
+        }
+
+        String report = context.computeOnClient(client -> meter.toString());
+        LOGGER.info("HOT PATH ALLOCATION: {}", report);
+
+        StringBuilder failures = new StringBuilder();
+        for (int stage = 0; stage < meter.getStageCount(); stage++) {
+            if (meter.getAverageBytes(stage) > BUDGETS[stage]) {
+                failures.append(String.format("%n  %s allocates %.1f bytes/call (budget %.1f)",
+                        meter.getStageName(stage), meter.getAverageBytes(stage), BUDGETS[stage]));
+            }
+        }
+
+        if (failures.length() > 0) {
+            throw new AssertionError("Hot path allocation budget exceeded:" + failures);
+        }
+    }
+
+    private void runFall(ClientGameTestContext context, TestServerContext server,
+            SyntheticWorld terrain, FallState start) {
+        ScriptedFalls.launch(context, server, terrain, start, Items.WATER_BUCKET);
+
+        for (int tick = 0; tick < MAX_FALL_TICKS && !ScriptedFalls.hasLanded(context); tick++) {
+            context.waitTick();
+        }
+    }
+
+    /**
+     * Forwards hot path stage boundaries to the allocation meter
+     */
+    private static class MeterProbe implements HotPathProbe {
+        private final AllocationMeter meter;
+
+        MeterProbe(AllocationMeter meter) {
+            this.meter = meter;
+        }
+
+        @Override
+        public void begin(int stage) {
+            meter.begin(stage);
+        }
+
+        @Override
+        public void end(int stage) {
+            meter.end(stage);
+        }
+    }
+}
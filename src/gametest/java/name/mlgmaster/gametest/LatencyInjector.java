@@ -0,0 +1,59 @@
+package name.mlgmaster.gametest;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.util.concurrent.TimeUnit;
+import name.mlgmaster.gametest.mixin.ClientConnectionAccessor;
+import net.minecraft.network.ClientConnection;
+
+/**
+ * Delays every packet on the client connection by half the configured round-trip time in each
+ * direction. Delays are scheduled on the channel's event loop, so packet order is preserved.
+ */
+public class LatencyInjector extends ChannelDuplexHandler {
+    private static final String HANDLER_NAME = "mlgmaster_latency";
+
+    private volatile long oneWayDelayMillis;
+
+    /**
+     * Install (or fetch the already installed) injector on the given connection
+     */
+    public static LatencyInjector install(ClientConnection connection) {
+        Channel channel = ((ClientConnectionAccessor) connection).getChannel();
+        LatencyInjector existing = (LatencyInjector) channel.pipeline().get(HANDLER_NAME);
+        if (existing != null) {
+            return existing;
+        }
+
+        LatencyInjector injector = new LatencyInjector();
+        channel.pipeline().addFirst(HANDLER_NAME, injector);
+        return injector;
+    }
+
+    public void setRoundTripMillis(long roundTripMillis) {
+        this.oneWayDelayMillis = roundTripMillis / 2;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        long delay = oneWayDelayMillis;
+        if (delay <= 0) {
+            ctx.write(msg, promise);
+            return;
+        }
+        ctx.executor().schedule(() -> ctx.writeAndFlush(msg, promise), delay,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        long delay = oneWayDelayMillis;
+        if (delay <= 0) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        ctx.executor().schedule(() -> ctx.fireChannelRead(msg), delay, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,94 @@
+package name.mlgmaster.gametest;
+
+import net.fabricmc.fabric.api.client.gametest.v1.FabricClientGameTest;
+import net.fabricmc.fabric.api.client.gametest.v1.context.ClientGameTestContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestServerContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestSingleplayerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The conformance grid of {@link TrajectoryConformanceTest}, fallen one case at a time by the
+ * real client player. The player moves client side, so this is the trajectory the predictor sees
+ * in game. Their inventory is empty, so the mod never clutches and the fall is left to vanilla.
+ */
+public class PlayerConformanceTest implements FabricClientGameTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger("mlgmaster-gametest");
+
+    private static final String[] FLOORS = {"stone", "stone_slab", "white_carpet", "hay_block"};
+    private static final int FLOOR_Y = 100;
+    // Wide enough for a sprint jump's drift over the highest drop
+    private static final int FLOOR_RADIUS = 5;
+    private static final int CLEAR_HEIGHT = 60;
+    private static final int RECORD_TICKS = 90;
+
+    @Override
+    public void runTest(ClientGameTestContext context) {
+        String firstViolation = null;
+
+        try (TestSingleplayerContext singleplayer = context.worldBuilder().create()) {
+            TestServerContext server = singleplayer.getServer();
+            server.runCommand("gamemode survival @a");
+            server.runCommand("gamerule fallDamage false");
+            server.runCommand("clear @a");
+            server.runCommand("tp @a 0 " + (FLOOR_Y + 1) + " 0");
+            singleplayer.getClientWorld().waitForChunksRender();
+
+            for (String floor : FLOORS) {
+                placeFloor(server, floor);
+                for (double height : TrajectoryConformanceTest.DROP_HEIGHTS) {
+                    for (double[] launch : TrajectoryConformanceTest.LAUNCH_VELOCITIES) {
+                        String label = String.format("player %s h=%.0f v=(%.2f, %.2f, %.2f)",
+                                floor, height, launch[0], launch[1], launch[2]);
+                        ConformanceReport report = runFall(context, server, label,
+                                FLOOR_Y + 1.0 + height, launch);
+                        LOGGER.info("{}", report);
+
+                        String violation = report.findBudgetViolation();
+                        if (violation != null && firstViolation == null) {
+                            firstViolation = label + ": " + violation;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (firstViolation != null) {
+            throw new AssertionError("Prediction outside error budget - " + firstViolation);
+        }
+    }
+
+    private ConformanceReport runFall(ClientGameTestContext context, TestServerContext server,
+            String label, double startY, double[] launch) {
+        ScriptedFalls.teleport(context, server, 0.5, startY, 0.5);
+
+        TrajectoryRecording recording = context.computeOnClient(client -> {
+            client.player.setVelocity(launch[0], launch[1], launch[2]);
+            TrajectoryRecording started = new TrajectoryRecording(label, client.player);
+            started.recordTick();
+            return started;
+        });
+
+        for (int tick = 0; tick < RECORD_TICKS && !recording.hasLanded(); tick++) {
+            context.waitTick();
+            context.runOnClient(client -> recording.recordTick());
+        }
+
+        return context.computeOnClient(
+                client -> recording.compare(new WorldBlockQuery(client.world)));
+    }
+
+    /**
+     * A floor of the given block on a stone base, with open air above it
+     */
+    private void placeFloor(TestServerContext server, String block) {
+        fill(server, FLOOR_Y - 1, FLOOR_Y - 1, "stone");
+        fill(server, FLOOR_Y, FLOOR_Y, block);
+        fill(server, FLOOR_Y + 1, FLOOR_Y + CLEAR_HEIGHT, "air");
+    }
+
+    private void fill(TestServerContext server, int minY, int maxY, String block) {
+        server.runCommand(String.format("fill %d %d %d %d %d %d %s", -FLOOR_RADIUS, minY,
+                -FLOOR_RADIUS, FLOOR_RADIUS, maxY, FLOOR_RADIUS, block));
+    }
+}
@@ -0,0 +1,76 @@
+package name.mlgmaster.gametest;
+
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainScenario;
+import net.fabricmc.fabric.api.client.gametest.v1.context.ClientGameTestContext;
+import net.fabricmc.fabric.api.client.gametest.v1.context.TestServerContext;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * Shared setup for client game tests that replay synthetic-terrain falls with the real player
+ */
+public class ScriptedFalls {
+    public static final int PASTE_RADIUS = 8;
+    private static final int TELEPORT_TIMEOUT_TICKS = 40;
+
+    /**
+     * Paste the terrain around the origin, hand the player a full stack of the clutch item and
+     * launch them from the given starting state
+     */
+    public static void launch(ClientGameTestContext context, TestServerContext server,
+            SyntheticWorld terrain, FallState start, Item item) {
+        server.runOnServer(minecraftServer -> {
+            TerrainPaster.paste(minecraftServer.getOverworld(), terrain, PASTE_RADIUS,
+                    minecraftServer.getOverworld().getBottomY(), TerrainScenario.WORLD_HEIGHT - 1);
+
+            ServerPlayerEntity player = getPlayer(minecraftServer);
+            PlayerInventory inventory = player.getInventory();
+            inventory.clear();
+            inventory.setStack(0, new ItemStack(item, item.getMaxCount()));
+        });
+        teleport(context, server, start.getX(), start.getY(), start.getZ());
+
+        server.runOnServer(minecraftServer -> {
+            ServerPlayerEntity player = getPlayer(minecraftServer);
+            player.setVelocity(start.getVelocityX(), start.getVelocityY(), start.getVelocityZ());
+            player.velocityModified = true;
+        });
+    }
+
+    /**
+     * Heal the player, reset their fall and move them to the given position, waiting until the
+     * client has it
+     */
+    public static void teleport(ClientGameTestContext context, TestServerContext server, double x,
+            double y, double z) {
+        server.runOnServer(minecraftServer -> {
+            ServerPlayerEntity player = getPlayer(minecraftServer);
+            player.setHealth(player.getMaxHealth());
+            player.fallDistance = 0;
+            player.networkHandler.requestTeleport(x, y, z, player.getYaw(), 0);
+        });
+
+        // The teleport can take a few ticks to reach the client
+        context.waitFor(client -> client.player != null
+                && client.player.squaredDistanceTo(x, y, z) < 1, TELEPORT_TIMEOUT_TICKS);
+    }
+
+    public static boolean hasLanded(ClientGameTestContext context) {
+        return context.computeOnClient(client -> client.player.isOnGround()
+                || client.player.isTouchingWater());
+    }
+
+    public static int countOnServer(TestServerContext server, Item item) {
+        return server.computeOnServer(minecraftServer -> getPlayer(minecraftServer).getInventory()
+                .count(item));
+    }
+
+    public static ServerPlayerEntity getPlayer(MinecraftServer server) {
+        return server.getPlayerManager().getPlayerList().get(0);
+    }
+}
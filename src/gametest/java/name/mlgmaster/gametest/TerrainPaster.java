@@ -0,0 +1,48 @@
+package name.mlgmaster.gametest;
+
+import name.mlgmaster.core.terrain.SyntheticWorld;
+import name.mlgmaster.core.terrain.TerrainPalette;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Copies a column of a synthetic terrain volume into a real world so scripted falls can be
+ * replayed against the game
+ */
+public class TerrainPaster {
+    private static final int FLAGS = 2; // notify listeners, skip neighbor updates
+
+    /**
+     * Paste the square column of the given radius around the origin, overwriting everything in it
+     */
+    public static void paste(ServerWorld world, SyntheticWorld terrain, int radius, int minY,
+            int maxY) {
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    world.setBlockState(pos.set(x, y, z), toBlockState(terrain.getStateId(x, y, z)),
+                            FLAGS);
+                }
+            }
+        }
+    }
+
+    public static BlockState toBlockState(int paletteId) {
+        return switch (paletteId) {
+            case TerrainPalette.STONE -> Blocks.STONE.getDefaultState();
+            case TerrainPalette.DIRT -> Blocks.DIRT.getDefaultState();
+            case TerrainPalette.GRASS_BLOCK -> Blocks.GRASS_BLOCK.getDefaultState();
+            case TerrainPalette.SLAB -> Blocks.STONE_SLAB.getDefaultState();
+            case TerrainPalette.STAIRS -> Blocks.STONE_STAIRS.getDefaultState();
+            case TerrainPalette.SCAFFOLDING -> Blocks.SCAFFOLDING.getDefaultState();
+            case TerrainPalette.CARPET -> Blocks.WHITE_CARPET.getDefaultState();
+            case TerrainPalette.SLIME_BLOCK -> Blocks.SLIME_BLOCK.getDefaultState();
+            case TerrainPalette.WATER -> Blocks.WATER.getDefaultState();
+            case TerrainPalette.HAY_BLOCK -> Blocks.HAY_BLOCK.getDefaultState();
+            default -> Blocks.AIR.getDefaultState();
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package name.mlgmaster.gametest;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.test.TestContext;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Golden-trajectory conformance suite. Drops AI-less zombies from a grid of heights and launch
+ * velocities onto different floors, records their real trajectories and compares them
+ * tick-by-tick to the mod's predictor against the budgets in {@link ConformanceReport}.
+ *
+ * Zombies stand in for players because a whole grid can fall at once in a server test. Without AI
+ * they have no movement input, and mid-air both run {@code LivingEntity.travelMidAir} with the
+ * same 0.08 gravity, 0.98 vertical drag and 0.91 horizontal drag. Their hitbox is as wide as a
+ * player's; only the height differs, which a fall onto an open floor never touches.
+ * {@link PlayerConformanceTest} runs the same grid with the real client player to catch any
+ * difference this misses.
+ */
+public class TrajectoryConformanceTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger("mlgmaster-gametest");
+
+    static final double[] DROP_HEIGHTS = {4.0, 12.0, 24.0, 40.0};
+    static final double[][] LAUNCH_VELOCITIES = {
+            {0.0, 0.0, 0.0},
+            {0.0, 0.42, 0.0}, // jump
+            {0.2, 0.0, 0.0}, // walking off an edge
+            {0.28, 0.42, 0.1}, // sprint jump
+    };
+    private static final int CASE_SPACING = 6;
+    private static final int FLOOR_RADIUS = 3;
+    private static final int RECORD_TICKS = 90;
+
+    @GameTest(maxTicks = RECORD_TICKS + 10)
+    public void fullBlockFloor(TestContext context) {
+        runGrid(context, "full_block", Blocks.STONE.getDefaultState());
+    }
+
+    @GameTest(maxTicks = RECORD_TICKS + 10)
+    public void slabFloor(TestContext context) {
+        runGrid(context, "slab", Blocks.STONE_SLAB.getDefaultState());
+    }
+
+    @GameTest(maxTicks = RECORD_TICKS + 10)
+    public void carpetFloor(TestContext context) {
+        runGrid(context, "carpet", Blocks.WHITE_CARPET.getDefaultState());
+    }
+
+    @GameTest(maxTicks = RECORD_TICKS + 10)
+    public void hayBaleFloor(TestContext context) {
+        runGrid(context, "hay_block", Blocks.HAY_BLOCK.getDefaultState());
+    }
+
+    private void runGrid(TestContext context, String floorName, BlockState floor) {
+        List<TrajectoryRecording> recordings = new ArrayList<>();
+        int columns = LAUNCH_VELOCITIES.length;
+
+        for (int h = 0; h < DROP_HEIGHTS.length; h++) {
+            for (int v = 0; v < columns; v++) {
+                int baseX = v * CASE_SPACING;
+                int baseZ = h * CASE_SPACING;
+                placeFloor(context, baseX, baseZ, floor);
+
+                ZombieEntity zombie = context.spawnEntity(EntityType.ZOMBIE,
+                        new Vec3d(baseX + 0.5, 1.0 + DROP_HEIGHTS[h], baseZ + 0.5));
+                zombie.setAiDisabled(true);
+                double[] launch = LAUNCH_VELOCITIES[v];
+                zombie.setVelocity(launch[0], launch[1], launch[2]);
+
+                String label = String.format("%s h=%.0f v=(%.2f, %.2f, %.2f)", floorName,
+                        DROP_HEIGHTS[h], launch[0], launch[1], launch[2]);
+                recordings.add(new TrajectoryRecording(label, zombie));
+            }
+        }
+
+        for (int tick = 1; tick <= RECORD_TICKS; tick++) {
+            context.runAtTick(tick, () -> recordings.forEach(TrajectoryRecording::recordTick));
+        }
+
+        context.runAtTick(RECORD_TICKS + 1, () -> {
+            WorldBlockQuery world = new WorldBlockQuery(context.getWorld());
+            String firstViolation = null;
+
+            for (TrajectoryRecording recording : recordings) {
+                ConformanceReport report = recording.compare(world);
+                LOGGER.info("{}", report);
+
+                String violation = report.findBudgetViolation();
+                if (violation != null && firstViolation == null) {
+                    firstViolation = report.getLabel() + ": " + violation;
+                }
+            }
+
+            context.assertTrue(firstViolation == null,
+                    Text.literal("Prediction outside error budget - " + firstViolation));
+            context.complete();
+        });
+    }
+
+    private void placeFloor(TestContext context, int centerX, int centerZ, BlockState floor) {
+        for (int x = centerX - FLOOR_RADIUS; x <= centerX + FLOOR_RADIUS; x++) {
+            for (int z = centerZ - FLOOR_RADIUS; z <= centerZ + FLOOR_RADIUS; z++) {
+                context.setBlockState(new BlockPos(x, 0, z), floor);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package name.mlgmaster.gametest;
+
+import java.util.Arrays;
+import name.mlgmaster.core.BlockCoords;
+import name.mlgmaster.core.BlockQuery;
+import name.mlgmaster.core.FallSimulator;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.SimulationResult;
+import name.mlgmaster.core.Trajectory;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Ticks of a real entity's fall, recorded until it lands, and their comparison against the
+ * predictor started from the first recorded sample
+ */
+public class TrajectoryRecording {
+    private static final int STRIDE = 6;
+
+    private final String label;
+    private final Entity entity;
+    private double[] samples = new double[STRIDE * 32];
+    private int sampleCount;
+    private int landingSample = -1;
+    private long landingBlock = BlockCoords.NONE;
+
+    public TrajectoryRecording(String label, Entity entity) {
+        this.label = label;
+        this.entity = entity;
+    }
+
+    /**
+     * Record the entity's post-tick position and velocity, stopping once it is on the ground
+     */
+    public void recordTick() {
+        if (landingSample >= 0 || entity.isRemoved()) {
+            return;
+        }
+
+        int offset = sampleCount * STRIDE;
+        if (offset + STRIDE > samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+
+        samples[offset] = entity.getX();
+        samples[offset + 1] = entity.getY();
+        samples[offset + 2] = entity.getZ();
+        samples[offset + 3] = entity.getVelocity().x;
+        samples[offset + 4] = entity.getVelocity().y;
+        samples[offset + 5] = entity.getVelocity().z;
+
+        if (entity.isOnGround() && sampleCount > 0) {
+            landingSample = sampleCount;
+            BlockPos steppingPos = entity.getSteppingPos();
+            landingBlock = BlockCoords.pack(steppingPos.getX(), steppingPos.getY(),
+                    steppingPos.getZ());
+        }
+        sampleCount++;
+    }
+
+    public boolean hasLanded() {
+        return landingSample >= 0;
+    }
+
+    /**
+     * Run the predictor from the first sample and measure its tick-by-tick error
+     */
+    public ConformanceReport compare(BlockQuery world) {
+        FallState start = new FallState().set(samples[0], samples[1], samples[2], samples[3],
+                samples[4], samples[5]);
+        SimulationResult prediction = FallSimulator.simulate(world, start, new SimulationResult());
+        Trajectory trajectory = prediction.getTrajectory();
+
+        int recordedTicks = (landingSample >= 0 ? landingSample : sampleCount - 1);
+        int comparedTicks = Math.min(recordedTicks, trajectory.size());
+
+        double maxVerticalError = 0;
+        double maxHorizontalError = 0;
+        for (int tick = 0; tick < comparedTicks; tick++) {
+            int offset = (tick + 1) * STRIDE;
+            double errorX = trajectory.getEndX(tick) - samples[offset];
+            double errorY = trajectory.getEndY(tick) - samples[offset + 1];
+            double errorZ = trajectory.getEndZ(tick) - samples[offset + 2];
+
+            maxVerticalError = Math.max(maxVerticalError, Math.abs(errorY));
+            maxHorizontalError = Math.max(maxHorizontalError,
+                    Math.sqrt(errorX * errorX + errorZ * errorZ));
+        }
+
+        int predictedLandingTick = prediction.hasCollision() ? prediction.getSimulationTicks() + 1
+                : -1;
+
+        return new ConformanceReport(label, recordedTicks, comparedTicks, maxVerticalError,
+                maxHorizontalError, predictedLandingTick, landingSample,
+                prediction.getCollisionBlock(), landingBlock);
+    }
+}
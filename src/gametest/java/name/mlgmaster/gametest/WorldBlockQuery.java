@@ -0,0 +1,38 @@
+package name.mlgmaster.gametest;
+
+import name.mlgmaster.core.BlockQuery;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+
+/**
+ * Adapts a server world to the physics core so game tests can run the predictor against the
+ * exact blocks the real entity falls through
+ */
+public class WorldBlockQuery implements BlockQuery {
+    private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+    private final World world;
+
+    public WorldBlockQuery(World world) {
+        this.world = world;
+    }
+
+    @Override
+    public boolean isSolid(int x, int y, int z) {
+        BlockState blockState = world.getBlockState(mutablePos.set(x, y, z));
+        return !blockState.isAir() && !blockState.getCollisionShape(world, mutablePos).isEmpty();
+    }
+
+    @Override
+    public double getCollisionTop(int x, int y, int z) {
+        BlockState blockState = world.getBlockState(mutablePos.set(x, y, z));
+        return blockState.getCollisionShape(world, mutablePos).getMax(Direction.Axis.Y);
+    }
+
+    @Override
+    public int getStateId(int x, int y, int z) {
+        return Block.getRawIdFromState(world.getBlockState(mutablePos.set(x, y, z)));
+    }
+}
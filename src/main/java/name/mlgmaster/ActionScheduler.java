@@ -0,0 +1,210 @@
+package name.mlgmaster;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+
+/**
+ * Runs multi-step actions (rotate, wait a tick, interact, restore) without blocking the render
+ * thread. Steps are queued with a tick or nanosecond deadline relative to the previous step and
+ * pumped from the client tick and the high-frequency timer.
+ */
+public class ActionScheduler {
+    private static final List<Sequence> active = new ArrayList<>();
+    private static long currentTick = 0;
+
+    /**
+     * One step of a sequence; return false to abort the remaining steps
+     */
+    @FunctionalInterface
+    public interface Step {
+        boolean run(MinecraftClient client, ClientPlayerEntity player);
+    }
+
+    /**
+     * Callback for when a sequence finishes, successfully or not
+     */
+    @FunctionalInterface
+    public interface Completion {
+        void onComplete(MinecraftClient client, ClientPlayerEntity player, boolean success);
+    }
+
+    /**
+     * Start building a named sequence; nothing runs until {@link Sequence#submit()}
+     */
+    public static Sequence sequence(String name) {
+        return new Sequence(name);
+    }
+
+    /**
+     * Called once per client tick to advance the tick clock and run due steps
+     */
+    public static void onClientTick(MinecraftClient client) {
+        currentTick++;
+        pump(client);
+    }
+
+    /**
+     * Run every step whose deadline has passed; safe to call more often than once per tick
+     */
+    public static void pump(MinecraftClient client) {
+        if (active.isEmpty()) {
+            return;
+        }
+
+        ClientPlayerEntity player = client.player;
+        long now = System.nanoTime();
+
+        for (int i = active.size() - 1; i >= 0; i--) {
+            Sequence sequence = active.get(i);
+            if (player == null || sequence.advance(client, player, now)) {
+                active.remove(i);
+                if (player == null) {
+                    sequence.finish(client, null, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Abort every pending sequence, still running their completion callbacks
+     */
+    public static void cancelAll(MinecraftClient client) {
+        for (int i = active.size() - 1; i >= 0; i--) {
+            active.remove(i).finish(client, client.player, false);
+        }
+    }
+
+    public static boolean isRunning(String name) {
+        for (int i = 0; i < active.size(); i++) {
+            if (active.get(i).name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean hasPendingActions() {
+        return !active.isEmpty();
+    }
+
+    public static long getCurrentTick() {
+        return currentTick;
+    }
+
+    public static class Sequence {
+        private final String name;
+        private final List<Step> steps = new ArrayList<>();
+        private final List<Long> delayTicks = new ArrayList<>();
+        private final List<Long> delayNanos = new ArrayList<>();
+        private Completion completion = null;
+
+        private int nextStep = 0;
+        private long dueTick = 0;
+        private long dueNanos = 0;
+        private long pendingTicks = 0;
+        private long pendingNanos = 0;
+
+        private Sequence(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Queue a step that runs once any preceding wait has elapsed
+         */
+        public Sequence then(Step step) {
+            steps.add(step);
+            delayTicks.add(pendingTicks);
+            delayNanos.add(pendingNanos);
+            pendingTicks = 0;
+            pendingNanos = 0;
+            return this;
+        }
+
+        /**
+         * Delay the next step by whole client ticks
+         */
+        public Sequence waitTicks(long ticks) {
+            pendingTicks += ticks;
+            return this;
+        }
+
+        /**
+         * Delay the next step by wall-clock time, checked on every pump
+         */
+        public Sequence waitNanos(long nanos) {
+            pendingNanos += nanos;
+            return this;
+        }
+
+        /**
+         * Runs after the last step or on abort, e.g. to restore rotation
+         */
+        public Sequence onComplete(Completion completion) {
+            this.completion = completion;
+            return this;
+        }
+
+        /**
+         * Schedule the sequence; steps without a delay run on the next pump
+         */
+        public void submit() {
+            nextStep = 0;
+            scheduleNext(System.nanoTime());
+            active.add(this);
+        }
+
+        /**
+         * @return true once the sequence has finished
+         */
+        private boolean advance(MinecraftClient client, ClientPlayerEntity player, long now) {
+            while (nextStep < steps.size()) {
+                if (currentTick < dueTick || now < dueNanos) {
+                    return false;
+                }
+
+                boolean proceed;
+                try {
+                    proceed = steps.get(nextStep).run(client, player);
+                } catch (Exception e) {
+                    MLGMaster.LOGGER.error("Action {} failed at step {}: {}", name, nextStep,
+                            e.getMessage());
+                    proceed = false;
+                }
+
+                if (!proceed) {
+                    finish(client, player, false);
+                    return true;
+                }
+
+                nextStep++;
+                if (nextStep < steps.size()) {
+                    scheduleNext(now);
+                }
+            }
+
+            finish(client, player, true);
+            return true;
+        }
+
+        private void scheduleNext(long now) {
+            if (steps.isEmpty()) {
+                return;
+            }
+            dueTick = currentTick + delayTicks.get(nextStep);
+            dueNanos = now + delayNanos.get(nextStep);
+        }
+
+        private void finish(MinecraftClient client, ClientPlayerEntity player, boolean success) {
+            if (completion == null) {
+                return;
+            }
+            try {
+                completion.onComplete(client, player, success);
+            } catch (Exception e) {
+                MLGMaster.LOGGER.error("Action {} completion failed: {}", name, e.getMessage());
+            }
+        }
+    }
+}
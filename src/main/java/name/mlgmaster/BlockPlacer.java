@@ -1,10 +1,13 @@
 package name.mlgmaster;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.Items;
-import net.minecraft.util.Hand;
+import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.block.Blocks;
@@ -30,7 +33,13 @@ public class BlockPlacer {
         Vec3d placementTarget = prediction.getPlacementTarget();
         BlockPos placementPos = targetLandingBlock.up();
 
-        var blockAtPlacement = client.world.getBlockState(placementPos);
+        if (PendingPlacements.isPending(placementPos)) {
+            MLGMaster.LOGGER.info("Placement at {} already pending server confirmation",
+                    placementPos);
+            return false;
+        }
+
+        var blockAtPlacement = PendingPlacements.getBlockState(client.world, placementPos);
         if (blockAtPlacement.getBlock() != Blocks.AIR) {
             MLGMaster.LOGGER.info("Placement location {} is not air: {}, adjusting placement",
                     placementPos, blockAtPlacement.getBlock());
@@ -39,11 +48,14 @@ public class BlockPlacer {
             placementPos = targetLandingBlock.up();
             placementTarget = Vec3d.ofCenter(placementPos);
 
-            var newBlockAtPlacement = client.world.getBlockState(placementPos);
+            var newBlockAtPlacement = PendingPlacements.getBlockState(client.world, placementPos);
             if (newBlockAtPlacement.getBlock() != Blocks.AIR) {
                 MLGMaster.LOGGER.warn("Adjusted placement location {} is also blocked: {}",
                         placementPos, newBlockAtPlacement.getBlock());
-                return tryAlternativePlacements(client, player, prediction);
+                LongOpenHashSet excluded = new LongOpenHashSet();
+                excluded.add(prediction.getHighestLandingBlock().asLong());
+                return tryAlternativePlacements(client, player, prediction, targetItem,
+                        excluded);
             }
         }
 
@@ -51,8 +63,72 @@ public class BlockPlacer {
                 targetItem);
     }
 
+    /**
+     * Place a block into the cell above the landing block by clicking whichever neighbor face
+     * {@link PlacementFaces} finds visible and in reach
+     */
+    public static boolean executeBlockClutch(MinecraftClient client, ClientPlayerEntity player,
+            BlockPos landingBlock, Item blockItem) {
+        BlockPos placementPos = landingBlock.up();
+        if (PendingPlacements.isPending(placementPos)) {
+            MLGMaster.LOGGER.info("Placement at {} already pending server confirmation",
+                    placementPos);
+            return false;
+        }
+
+        BlockHitResult hit = PlacementFaces.findPlacementHit(client.world, player, placementPos);
+        if (hit == null) {
+            MLGMaster.LOGGER.info("No reachable face to place {} at {}",
+                    blockItem.getName().getString(), placementPos);
+            return false;
+        }
+
+        if (!InventoryManager.ensureItemInHand(player, blockItem)) {
+            MLGMaster.LOGGER.warn("Required item {} not available",
+                    blockItem.getName().getString());
+            return false;
+        }
+
+        PlacementPipeline.Plan plan =
+                PlacementPipeline.prepare(client, player, blockItem, hit.getPos());
+        if (!plan.isValid() || !PlacementPipeline.executeOnBlock(client, player, plan, hit)) {
+            MLGMaster.LOGGER.warn("BLOCK PLACEMENT FAILED: {} against {} face of {}",
+                    blockItem.getName().getString(), hit.getSide(), hit.getBlockPos());
+            return false;
+        }
+
+        PendingPlacements.add(placementPos, blockItem, PlacementPipeline.getLastSequence());
+        PlacementTracker.onAttempt(client, player, landingBlock, blockItem);
+        return true;
+    }
+
+    /**
+     * Use a non-block item (a boat) while looking at the target on the landing block; the server
+     * raycasts along the sent rotation to find where it goes
+     */
+    public static boolean executeItemClutch(MinecraftClient client, ClientPlayerEntity player,
+            BlockPos landingBlock, Item item, Vec3d lookTarget) {
+        if (!InventoryManager.ensureItemInHand(player, item)) {
+            MLGMaster.LOGGER.warn("Required item {} not available", item.getName().getString());
+            return false;
+        }
+        return executePlacementWithMixin(client, player, landingBlock, lookTarget, item);
+    }
+
+    /**
+     * Place the item on the highest hit block not yet tried, regardless of the timing decision
+     */
+    public static boolean retryPlacement(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction, Item item, LongSet triedLandingBlocks) {
+        if (item == null || !InventoryManager.ensureItemInHand(player, item)) {
+            return false;
+        }
+        return tryAlternativePlacements(client, player, prediction, item, triedLandingBlocks);
+    }
+
     private static boolean tryAlternativePlacements(MinecraftClient client,
-            ClientPlayerEntity player, MLGPredictionResult prediction) {
+            ClientPlayerEntity player, MLGPredictionResult prediction, Item item,
+            LongSet excludedLandingBlocks) {
         MLGMaster.LOGGER.info("Trying alternative placements...");
 
         HitboxLandingResult landingResult = prediction.getLandingResult();
@@ -66,23 +142,30 @@ public class BlockPlacer {
         sortedHitBlocks.sort((a, b) -> Integer.compare(b.getY(), a.getY()));
 
         for (BlockPos altBlock : sortedHitBlocks) {
-            if (altBlock.equals(prediction.getHighestLandingBlock())) {
+            if (excludedLandingBlocks.contains(altBlock.asLong())) {
                 continue;
             }
 
             Vec3d currentPos = player.getPos();
-            if (prediction.getTargetItem() == Items.WATER_BUCKET && SafeLandingBlockChecker
+            if (item == Items.WATER_BUCKET && SafeLandingBlockChecker
                     .shouldSkipWaterPlacement(client, player, altBlock, currentPos)) {
                 continue;
             }
 
+            if (item instanceof BlockItem) {
+                if (executeBlockClutch(client, player, altBlock, item)) {
+                    return true;
+                }
+                continue;
+            }
+
             BlockPos altPlacement = altBlock.up();
-            if (client.world.getBlockState(altPlacement).getBlock() == Blocks.AIR) {
+            if (PendingPlacements.getBlockState(client.world, altPlacement)
+                    .getBlock() == Blocks.AIR) {
                 MLGMaster.LOGGER.info("Found alternative placement at {} (on block {})",
                         altPlacement, altBlock);
                 Vec3d altTarget = Vec3d.ofCenter(altPlacement);
-                return executePlacementWithMixin(client, player, altBlock, altTarget,
-                        prediction.getTargetItem());
+                return executePlacementWithMixin(client, player, altBlock, altTarget, item);
             }
         }
 
@@ -93,25 +176,14 @@ public class BlockPlacer {
     private static boolean executePlacementWithMixin(MinecraftClient client,
             ClientPlayerEntity player, BlockPos targetBlock, Vec3d lookTarget, Item targetItem) {
 
-        PlayerRotationManager.storeOriginalRotation(player);
-
         try {
-            // Look at the target location
-            PlayerRotationManager.lookAtTarget(player, lookTarget);
-
-            if (player.getMainHandStack().getItem() == targetItem) {
-                boolean itemResult = MLGBlockPlacer.placeItem(client, player, Hand.MAIN_HAND);
-                if (itemResult) {
-                    return true;
-                }
-            }
-
-            if (player.getOffHandStack().getItem() == targetItem) {
-                boolean offhandResult = MLGBlockPlacer.placeItem(client, player, Hand.OFF_HAND);
-
-                if (offhandResult) {
-                    return true;
-                }
+            PlacementPipeline.Plan plan =
+                    PlacementPipeline.prepare(client, player, targetItem, lookTarget);
+            if (plan.isValid() && PlacementPipeline.execute(client, player, plan)) {
+                PendingPlacements.add(targetBlock.up(), targetItem,
+                        PlacementPipeline.getLastSequence());
+                PlacementTracker.onAttempt(client, player, targetBlock, targetItem);
+                return true;
             }
 
             MLGMaster.LOGGER.error("PLACEMENT FAILED!");
@@ -123,8 +195,8 @@ public class BlockPlacer {
                     player.getPos().distanceTo(lookTarget));
             MLGMaster.LOGGER.error("  Player main hand: {}", player.getMainHandStack());
             MLGMaster.LOGGER.error("  Player off hand: {}", player.getOffHandStack());
-            MLGMaster.LOGGER.error("  Final rotation: Yaw={}, Pitch={}", player.getYaw(),
-                    player.getPitch());
+            MLGMaster.LOGGER.error("  Planned rotation: Yaw={}, Pitch={}", plan.getYaw(),
+                    plan.getPitch());
 
             return false;
 
@@ -132,8 +204,6 @@ public class BlockPlacer {
             MLGMaster.LOGGER.error("ERROR during placement execution: {}", e.getMessage());
             e.printStackTrace();
             return false;
-        } finally {
-            PlayerRotationManager.restoreOriginalRotation(player);
         }
     }
 }
@@ -0,0 +1,57 @@
+package name.mlgmaster;
+
+import name.mlgmaster.core.BlockQuery;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+/**
+ * Adapts the client world to the physics core's {@link BlockQuery}. A single instance is reused on
+ * the render thread so lookups don't allocate block positions. Pending placements are layered on
+ * top of the world.
+ */
+public class ClientWorldBlockQuery implements BlockQuery {
+    private static final ClientWorldBlockQuery INSTANCE = new ClientWorldBlockQuery();
+
+    private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+    private ClientWorld world;
+
+    private ClientWorldBlockQuery() {}
+
+    /**
+     * Returns the shared adapter bound to the given world
+     */
+    public static ClientWorldBlockQuery forWorld(ClientWorld world) {
+        INSTANCE.world = world;
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isSolid(int x, int y, int z) {
+        try {
+            BlockState blockState = getState(x, y, z);
+            return !blockState.isAir()
+                    && !blockState.getCollisionShape(world, mutablePos).isEmpty();
+        } catch (Exception e) {
+            return false; // Assume non-solid if we can't check
+        }
+    }
+
+    @Override
+    public double getCollisionTop(int x, int y, int z) {
+        return getState(x, y, z).getCollisionShape(world, mutablePos).getMax(Direction.Axis.Y);
+    }
+
+    @Override
+    public int getStateId(int x, int y, int z) {
+        return Block.getRawIdFromState(getState(x, y, z));
+    }
+
+    private BlockState getState(int x, int y, int z) {
+        mutablePos.set(x, y, z);
+        BlockState overlay = PendingPlacements.get(mutablePos.asLong());
+        return overlay != null ? overlay : world.getBlockState(mutablePos);
+    }
+}
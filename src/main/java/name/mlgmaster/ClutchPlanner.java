@@ -0,0 +1,260 @@
+package name.mlgmaster;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import name.mlgmaster.core.ClutchCostModel;
+import name.mlgmaster.mixin.ClientPlayerInteractionManagerAccessor;
+import name.mlgmaster.mixin.PlayerInventoryAccessor;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Ranks every registered MLG type by expected outcome instead of static priority. Each applicable
+ * type is scored with {@link ClutchCostModel} from its lead time, the rotation and reach to its
+ * target, whether its item needs a slot switch and its recorded acceptance rate. Candidates are
+ * preallocated per registered type, so a planning pass allocates nothing; the last pass stays
+ * readable for {@link MLGMetrics}.
+ */
+public class ClutchPlanner {
+    private static MLGType[] plannedTypes = new MLGType[0];
+    private static Candidate[] candidates = new Candidate[0];
+    private static List<Candidate> candidatesView = Collections.emptyList();
+
+    private static double failureMargin = 0.0;
+    private static double bestScore = Double.NEGATIVE_INFINITY;
+    private static MLGType lastChoice = null;
+
+    /**
+     * One type's inputs and score from the latest pass
+     */
+    public static class Candidate {
+        private final MLGType type;
+        private final MLGMetrics.TypeOutcomes outcomes;
+        private boolean applicable;
+        private int leadTicks;
+        private double rotationDegrees;
+        private double reachDistance;
+        private double reach;
+        private boolean slotSwitch;
+        private double acceptance;
+        private double successMargin;
+        private double probability;
+        private double score = Double.NEGATIVE_INFINITY;
+
+        private Candidate(MLGType type) {
+            this.type = type;
+            this.outcomes = MLGMetrics.getTypeOutcomes(type);
+        }
+
+        public MLGType getType() {
+            return type;
+        }
+
+        public boolean isApplicable() {
+            return applicable;
+        }
+
+        public int getLeadTicks() {
+            return leadTicks;
+        }
+
+        public double getRotationDegrees() {
+            return rotationDegrees;
+        }
+
+        /**
+         * Distance from the eyes at the predicted landing to the target
+         */
+        public double getReachDistance() {
+            return reachDistance;
+        }
+
+        public boolean needsSlotSwitch() {
+            return slotSwitch;
+        }
+
+        public double getAcceptance() {
+            return acceptance;
+        }
+
+        public double getSuccessMargin() {
+            return successMargin;
+        }
+
+        public double getProbability() {
+            return probability;
+        }
+
+        /**
+         * Expected health margin, or negative infinity if the type cannot be used
+         */
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public String toString() {
+            if (!applicable) {
+                return String.format("%s: not applicable", type.getName());
+            }
+            if (successMargin == Double.NEGATIVE_INFINITY) {
+                return String.format("%s: cannot work here", type.getName());
+            }
+            return String.format(
+                    "%s: score=%.2f p=%.2f margin=%.1f accept=%.2f lead=%d rot=%.0f reach=%.1f/%.1f switch=%s",
+                    type.getName(), score, probability, successMargin, acceptance, leadTicks,
+                    rotationDegrees, reachDistance, reach, slotSwitch);
+        }
+    }
+
+    /**
+     * Score every type and return the one with the best expected margin. Types arrive in
+     * priority order and only a strictly better score displaces an earlier one, so priority
+     * still breaks ties.
+     */
+    public static MLGType plan(MinecraftClient client, ClientPlayerEntity player, Vec3d velocity,
+            MLGPredictionResult prediction, MLGType[] types) {
+        if (types != plannedTypes) {
+            rebuildCandidates(types);
+        }
+
+        failureMargin = estimateFailureMargin(client, player, prediction);
+
+        double eyeX = player.getX();
+        double eyeY = player.getEyeY();
+        double eyeZ = player.getZ();
+        Vec3d landing = prediction.getLandingResult() != null
+                ? prediction.getLandingResult().getLandingPosition()
+                : null;
+        double landingEyeX = landing != null ? landing.x : eyeX;
+        double landingEyeY = landing != null ? landing.y + player.getStandingEyeHeight() : eyeY;
+        double landingEyeZ = landing != null ? landing.z : eyeZ;
+        double reach = player.getBlockInteractionRange();
+        int ticksToImpact = prediction.getTicksToImpact();
+
+        MLGType best = null;
+        bestScore = Double.NEGATIVE_INFINITY;
+        for (Candidate candidate : candidates) {
+            MLGType type = candidate.type;
+            candidate.score = Double.NEGATIVE_INFINITY;
+            candidate.applicable = type.isApplicable(client, player, velocity, prediction);
+            if (!candidate.applicable) {
+                continue;
+            }
+
+            candidate.successMargin = type.estimateSuccessMargin(client, player, prediction);
+            if (candidate.successMargin == Double.NEGATIVE_INFINITY) {
+                continue;
+            }
+
+            candidate.leadTicks = type.getRequiredLeadTicks();
+            candidate.reach = reach;
+            Vec3d target = type.getPlanTarget(prediction);
+            if (target != null) {
+                candidate.rotationDegrees = ClutchCostModel.rotationDelta(eyeX, eyeY, eyeZ,
+                        target.x, target.y, target.z, player.getYaw(), player.getPitch());
+                double dx = target.x - landingEyeX;
+                double dy = target.y - landingEyeY;
+                double dz = target.z - landingEyeZ;
+                candidate.reachDistance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            } else {
+                candidate.rotationDegrees = 0.0;
+                candidate.reachDistance = 0.0;
+            }
+            candidate.slotSwitch =
+                    needsSlotSwitch(client, player, type.getPlannedItem(prediction));
+            candidate.acceptance = candidate.outcomes.getAcceptanceProbability();
+
+            candidate.probability = ClutchCostModel.successProbability(candidate.acceptance,
+                    ticksToImpact, candidate.leadTicks, candidate.reachDistance, reach,
+                    candidate.rotationDegrees, candidate.slotSwitch);
+            candidate.score = ClutchCostModel.expectedMargin(candidate.probability,
+                    candidate.successMargin, failureMargin);
+
+            if (candidate.score > bestScore) {
+                best = type;
+                bestScore = candidate.score;
+            }
+        }
+
+        if (best != lastChoice) {
+            MLGMetrics.recordPlanChoice(best);
+            lastChoice = best;
+        }
+        return best;
+    }
+
+    /**
+     * Expected margin of the chosen type, or negative infinity if nothing was chosen
+     */
+    public static double getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Margin of landing with no clutch at all, the baseline every score is blended with
+     */
+    public static double getFailureMargin() {
+        return failureMargin;
+    }
+
+    /**
+     * Candidates from the latest pass, in priority order
+     */
+    public static List<Candidate> getCandidates() {
+        return candidatesView;
+    }
+
+    public static String describeLastPlan() {
+        StringBuilder description = new StringBuilder(
+                String.format("plan: failureMargin=%.1f%n", failureMargin));
+        for (Candidate candidate : candidates) {
+            description.append("  ").append(candidate).append(System.lineSeparator());
+        }
+        return description.toString();
+    }
+
+    private static void rebuildCandidates(MLGType[] types) {
+        Candidate[] rebuilt = new Candidate[types.length];
+        for (int i = 0; i < types.length; i++) {
+            rebuilt[i] = new Candidate(types[i]);
+        }
+        candidates = rebuilt;
+        candidatesView = Collections.unmodifiableList(Arrays.asList(rebuilt));
+        plannedTypes = types;
+    }
+
+    private static double estimateFailureMargin(MinecraftClient client,
+            ClientPlayerEntity player, MLGPredictionResult prediction) {
+        BlockPos landingBlock = prediction.getHighestLandingBlock();
+        if (landingBlock == null || client.world == null) {
+            return -MLGConfig.get().getSurvivabilityThreshold();
+        }
+
+        double fallDistance = player.fallDistance + (player.getY() - (landingBlock.getY() + 1));
+        BlockState landingState = PendingPlacements.getBlockState(client.world, landingBlock);
+        return MLGType.marginAfterDamage(player,
+                FallDamageEstimator.estimateDamage(player, fallDistance, landingState));
+    }
+
+    /**
+     * Whether placing the item costs a slot-select packet first
+     */
+    private static boolean needsSlotSwitch(MinecraftClient client, ClientPlayerEntity player,
+            Item item) {
+        if (item == null || player.getOffHandStack().isOf(item)) {
+            return false;
+        }
+        if (!player.getMainHandStack().isOf(item)) {
+            return true;
+        }
+        int selected = ((PlayerInventoryAccessor) player.getInventory()).getSelectedSlot();
+        return selected != ((ClientPlayerInteractionManagerAccessor) client.interactionManager)
+                .getLastSelectedSlot();
+    }
+}
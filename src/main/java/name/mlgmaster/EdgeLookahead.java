@@ -0,0 +1,243 @@
+package name.mlgmaster;
+
+import name.mlgmaster.core.FallDamageModel;
+import name.mlgmaster.core.FallPhysics;
+import name.mlgmaster.core.FallState;
+import name.mlgmaster.core.MovementInput;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Finds dangerous drops before the player leaves the ground, so the fall plan is ready on the
+ * first airborne tick instead of several ticks into the fall. On the ground the columns around
+ * the player are scanned for an open drop only when the block position changes, which is the
+ * whole cost on flat ground. Near an edge, walking or rising from a jump, the next ticks of
+ * current movement are projected once per client tick; a drop the player would not survive is
+ * precompiled into a {@link FallPlan} and lifts the fall distance gates for that fall.
+ */
+public class EdgeLookahead {
+    private static final int LOOKAHEAD_TICKS = 10;
+    private static final int EDGE_SCAN_RADIUS = 3;
+    // Open columns shallower than this are steps, not drops
+    private static final int MIN_EDGE_DEPTH = 2;
+    private static final double HALF_WIDTH = FallPhysics.PLAYER_WIDTH / 2;
+    private static final double WALK_OFF_VELOCITY_Y =
+            FallPhysics.GRAVITY_ACCELERATION * FallPhysics.AIR_DRAG;
+    private static final double MIN_HORIZONTAL_SPEED = 0.01;
+    // Ticks past the predicted impact before an unused expectation lapses
+    private static final int EXPECTATION_SLACK_TICKS = 2;
+
+    private static final FallState groundInput = new FallState();
+
+    private static long lastUpdateTick = -1;
+    private static boolean scanned = false;
+    private static long scannedPos = 0;
+    private static boolean nearEdge = false;
+
+    private static boolean expectingDrop = false;
+    private static BlockPos expectedLanding = null;
+    private static long expectedUntilTick = 0;
+    private static long lookaheads = 0;
+
+    /**
+     * Called while idle; at most one lookahead per client tick
+     */
+    public static void update(MinecraftClient client, ClientPlayerEntity player) {
+        long tick = ActionScheduler.getCurrentTick();
+        if (tick == lastUpdateTick || client.world == null) {
+            return;
+        }
+        lastUpdateTick = tick;
+
+        // Nothing to plan with
+        if (HotbarIndex.getClutchMask(player.getInventory()) == 0) {
+            dropExpectation();
+            return;
+        }
+
+        if (player.isOnGround()) {
+            long blockPos = player.getBlockPos().asLong();
+            if (!scanned || blockPos != scannedPos) {
+                scanned = true;
+                scannedPos = blockPos;
+                nearEdge = scanForEdge(ClientWorldBlockQuery.forWorld(client.world), player);
+            }
+
+            // Sneaking keeps vanilla players from walking off edges
+            if (!nearEdge || player.isSneaking()) {
+                dropExpectation();
+                return;
+            }
+            lookaheadFromGround(client, player, tick);
+        } else if (nearEdge) {
+            // Rising from a jump taken near an edge
+            lookahead(client, player, player.getPos(), player.getVelocity(), tick);
+        }
+    }
+
+    /**
+     * Whether a dangerous drop was seen coming and has not lapsed
+     */
+    public static boolean isExpectingDrop() {
+        return expectingDrop && ActionScheduler.getCurrentTick() <= expectedUntilTick;
+    }
+
+    public static BlockPos getExpectedLanding() {
+        return expectedLanding;
+    }
+
+    public static long getLookaheads() {
+        return lookaheads;
+    }
+
+    /**
+     * Forget the scan and any expectation; called when a fall ends
+     */
+    public static void clear() {
+        scanned = false;
+        nearEdge = false;
+        expectingDrop = false;
+        expectedLanding = null;
+    }
+
+    /**
+     * Walk the held movement input forward with ground friction until the hitbox loses support,
+     * then analyze the fall from there
+     */
+    private static void lookaheadFromGround(MinecraftClient client, ClientPlayerEntity player,
+            long tick) {
+        double slipperiness = MinecraftPhysics.getGroundSlipperiness(client.world, player);
+        MinecraftPhysics.applyMovementInput(player, groundInput, true, slipperiness);
+        double drag = MovementInput.groundDrag(slipperiness);
+        double accelerationX = groundInput.getInputAccelerationX();
+        double accelerationZ = groundInput.getInputAccelerationZ();
+
+        Vec3d velocity = player.getVelocity();
+        double velocityX = velocity.x;
+        double velocityZ = velocity.z;
+        double firstStepX = velocityX + accelerationX;
+        double firstStepZ = velocityZ + accelerationZ;
+        if (firstStepX * firstStepX + firstStepZ * firstStepZ
+                < MIN_HORIZONTAL_SPEED * MIN_HORIZONTAL_SPEED) {
+            dropExpectation();
+            return;
+        }
+
+        ClientWorldBlockQuery query = ClientWorldBlockQuery.forWorld(client.world);
+        double x = player.getX();
+        double y = player.getY();
+        double z = player.getZ();
+        int supportY = MathHelper.floor(y - 0.01);
+        for (int ahead = 1; ahead <= LOOKAHEAD_TICKS; ahead++) {
+            // Vanilla ground travel: accelerate, move, then apply friction
+            velocityX += accelerationX;
+            velocityZ += accelerationZ;
+            x += velocityX;
+            z += velocityZ;
+            velocityX *= drag;
+            velocityZ *= drag;
+            if (!isSupported(query, x, supportY, z)) {
+                lookahead(client, player, new Vec3d(x, y, z),
+                        new Vec3d(velocityX, WALK_OFF_VELOCITY_Y, velocityZ), tick + ahead);
+                return;
+            }
+        }
+        dropExpectation();
+    }
+
+    private static void lookahead(MinecraftClient client, ClientPlayerEntity player, Vec3d start,
+            Vec3d velocity, long startTick) {
+        lookaheads++;
+        // Only this lookahead's drop is worth keeping; entries from earlier ones would pile up
+        // while idle and a stale blocked line of sight could reject the new target
+        clearCaches();
+        MLGPredictionResult prediction =
+                FallPredictionSystem.analyzeFallFrom(client, player, start, velocity);
+        BlockPos landing = prediction.getHighestLandingBlock();
+        if (!prediction.willLand() || landing == null || prediction.getSafetyResult().isSafe()) {
+            dropExpectation();
+            return;
+        }
+
+        double dropHeight = start.y - (landing.getY() + 1);
+        BlockState landingState = PendingPlacements.getBlockState(client.world, landing);
+        if (dropHeight <= 0 || FallDamageEstimator.isSurvivable(player,
+                FallDamageModel.effectiveFallDistance(player.fallDistance, dropHeight, velocity.y),
+                landingState)) {
+            dropExpectation();
+            return;
+        }
+
+        if (!expectingDrop || !landing.equals(expectedLanding)) {
+            MLGMaster.LOGGER.info("EDGE LOOKAHEAD: {} block drop onto {} starting in {} ticks",
+                    dropHeight, landing, startTick - ActionScheduler.getCurrentTick());
+        }
+        expectingDrop = true;
+        expectedLanding = landing;
+        expectedUntilTick = startTick + prediction.getTrajectory().size()
+                + EXPECTATION_SLACK_TICKS;
+        FallPlan.precompile(client, prediction, startTick);
+    }
+
+    private static void dropExpectation() {
+        clearCaches();
+        if (!expectingDrop) {
+            return;
+        }
+        expectingDrop = false;
+        expectedLanding = null;
+        // Only a precompiled plan can exist while idle
+        FallPlan.clear();
+    }
+
+    /**
+     * Drop what lookaheads cached for the fall pipeline; clearing an empty cache costs nothing
+     */
+    private static void clearCaches() {
+        SafeLandingBlockChecker.clearCache();
+        PlacementReachability.clearCache();
+    }
+
+    private static boolean scanForEdge(ClientWorldBlockQuery query, ClientPlayerEntity player) {
+        int centerX = MathHelper.floor(player.getX());
+        int supportY = MathHelper.floor(player.getY() - 0.01);
+        int centerZ = MathHelper.floor(player.getZ());
+
+        for (int dx = -EDGE_SCAN_RADIUS; dx <= EDGE_SCAN_RADIUS; dx++) {
+            for (int dz = -EDGE_SCAN_RADIUS; dz <= EDGE_SCAN_RADIUS; dz++) {
+                if (isOpenColumn(query, centerX + dx, supportY, centerZ + dz)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOpenColumn(ClientWorldBlockQuery query, int x, int topY, int z) {
+        for (int y = topY; y > topY - MIN_EDGE_DEPTH; y--) {
+            if (query.isSolid(x, y, z)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether any corner of the hitbox footprint stands on something
+     */
+    private static boolean isSupported(ClientWorldBlockQuery query, double x, int supportY,
+            double z) {
+        for (int corner = 0; corner < 4; corner++) {
+            int columnX = MathHelper.floor(x + ((corner & 1) == 0 ? -HALF_WIDTH : HALF_WIDTH));
+            int columnZ = MathHelper.floor(z + ((corner & 2) == 0 ? -HALF_WIDTH : HALF_WIDTH));
+            if (query.isSolid(columnX, supportY, columnZ)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
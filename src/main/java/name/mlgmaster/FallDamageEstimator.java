@@ -0,0 +1,171 @@
+package name.mlgmaster;
+
+import name.mlgmaster.core.FallDamageModel;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Feeds the player's enchantments, effects, attributes and health into {@link FallDamageModel} so
+ * the handler can ignore falls the player survives comfortably
+ */
+public class FallDamageEstimator {
+    private static final int MAX_SCAN_DEPTH = 64;
+    private static final double HALF_WIDTH = 0.3;
+    // EquipmentSlot.values() copies its array on every call
+    private static final EquipmentSlot[] ARMOR_SLOTS = { EquipmentSlot.HEAD, EquipmentSlot.CHEST,
+            EquipmentSlot.LEGS, EquipmentSlot.FEET };
+
+    // Drop verdict for the hitbox corner columns it was computed under, kept for one fall
+    private static final long[] cachedColumns = new long[4];
+    private static boolean cacheValid = false;
+    private static boolean cachedVerdict = false;
+    private static float cachedHealth = 0.0f;
+
+    /**
+     * Health lost landing on the given state after falling the given total distance
+     */
+    public static float estimateDamage(ClientPlayerEntity player, double fallDistance,
+            BlockState landingState) {
+        if (landingState.getBlock() == Blocks.POINTED_DRIPSTONE
+                && LandingSafetyTables.getDamageMultiplier(landingState) > 1.0f) {
+            fallDistance += FallDamageModel.DRIPSTONE_EXTRA_FALL_DISTANCE;
+        }
+
+        StatusEffectInstance resistance = player.getStatusEffect(StatusEffects.RESISTANCE);
+
+        return FallDamageModel.estimateDamage(fallDistance,
+                player.getAttributeValue(EntityAttributes.SAFE_FALL_DISTANCE),
+                LandingSafetyTables.getDamageMultiplier(landingState),
+                player.getAttributeValue(EntityAttributes.FALL_DAMAGE_MULTIPLIER),
+                getProtectionPoints(player),
+                resistance != null ? resistance.getAmplifier() : -1,
+                player.hasStatusEffect(StatusEffects.SLOW_FALLING));
+    }
+
+    /**
+     * Whether the player keeps at least the configured health after this landing
+     */
+    public static boolean isSurvivable(ClientPlayerEntity player, double fallDistance,
+            BlockState landingState) {
+        float damage = estimateDamage(player, fallDistance, landingState);
+        float remaining = FallDamageModel.remainingHealth(damage, player.getHealth(),
+                player.getAbsorptionAmount());
+        return remaining >= MLGConfig.get().getSurvivabilityThreshold();
+    }
+
+    /**
+     * Cheap pre-check before any prediction runs: scans straight down under each hitbox corner and
+     * assumes the deepest column is where the player lands. Unknown ground counts as lethal.
+     *
+     * While falling, the distance fallen grows by exactly what the drop left shrinks, so the
+     * verdict only changes when a corner moves into another column or the player's health
+     * changes. Until then the last verdict is reused; {@link #clearCache} forgets it at the end
+     * of a fall.
+     */
+    public static boolean isSurvivableDrop(ClientWorld world, ClientPlayerEntity player) {
+        double x = player.getX();
+        double z = player.getZ();
+        float health = player.getHealth() + player.getAbsorptionAmount();
+
+        boolean columnsChanged = !cacheValid || health != cachedHealth;
+        for (int corner = 0; corner < 4; corner++) {
+            long column = cornerColumn(x, z, corner);
+            columnsChanged |= column != cachedColumns[corner];
+            cachedColumns[corner] = column;
+        }
+        if (!columnsChanged) {
+            return cachedVerdict;
+        }
+
+        cachedVerdict = scanDrop(world, player);
+        cachedHealth = health;
+        cacheValid = true;
+        return cachedVerdict;
+    }
+
+    /**
+     * Forget the cached drop verdict; called when a fall ends
+     */
+    public static void clearCache() {
+        cacheValid = false;
+    }
+
+    private static boolean scanDrop(ClientWorld world, ClientPlayerEntity player) {
+        ClientWorldBlockQuery query = ClientWorldBlockQuery.forWorld(world);
+        int startY = MathHelper.floor(player.getY());
+
+        int lowestTop = Integer.MAX_VALUE;
+        int landingX = 0;
+        int landingZ = 0;
+        for (int corner = 0; corner < 4; corner++) {
+            int columnX = BlockPos.unpackLongX(cachedColumns[corner]);
+            int columnZ = BlockPos.unpackLongZ(cachedColumns[corner]);
+
+            int groundY = findGround(query, columnX, startY, columnZ);
+            if (groundY == Integer.MIN_VALUE) {
+                return false;
+            }
+            if (groundY < lowestTop) {
+                lowestTop = groundY;
+                landingX = columnX;
+                landingZ = columnZ;
+            }
+        }
+
+        // Measuring to the block's bottom face over-estimates the drop, never under
+        double fallDistance = FallDamageModel.effectiveFallDistance(player.fallDistance,
+                player.getY() - lowestTop, player.getVelocity().y);
+        BlockState landingState =
+                Block.getStateFromRawId(query.getStateId(landingX, lowestTop, landingZ));
+        return isSurvivable(player, fallDistance, landingState);
+    }
+
+    private static long cornerColumn(double x, double z, int corner) {
+        int columnX = MathHelper.floor(x + ((corner & 1) == 0 ? -HALF_WIDTH : HALF_WIDTH));
+        int columnZ = MathHelper.floor(z + ((corner & 2) == 0 ? -HALF_WIDTH : HALF_WIDTH));
+        return BlockPos.asLong(columnX, 0, columnZ);
+    }
+
+    private static int findGround(ClientWorldBlockQuery query, int x, int startY, int z) {
+        for (int y = startY; y > startY - MAX_SCAN_DEPTH; y--) {
+            if (query.isSolid(x, y, z)) {
+                return y;
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    private static int getProtectionPoints(ClientPlayerEntity player) {
+        Registry<Enchantment> enchantments =
+                player.getRegistryManager().getOrThrow(RegistryKeys.ENCHANTMENT);
+        RegistryEntry<Enchantment> protection = enchantments.getOrThrow(Enchantments.PROTECTION);
+        RegistryEntry<Enchantment> featherFalling =
+                enchantments.getOrThrow(Enchantments.FEATHER_FALLING);
+
+        int protectionLevels = 0;
+        int featherFallingLevels = 0;
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
+            ItemStack armor = player.getEquippedStack(slot);
+            protectionLevels += EnchantmentHelper.getLevel(protection, armor);
+            featherFallingLevels += EnchantmentHelper.getLevel(featherFalling, armor);
+        }
+
+        return FallDamageModel.protectionPoints(protectionLevels, featherFallingLevels);
+    }
+}
@@ -0,0 +1,15 @@
+package name.mlgmaster;
+
+/**
+ * Phases of the tick handler state machine, see {@link MLGHandler#onHighFrequencyTick()}
+ */
+public enum FallPhase {
+    /** On the ground or rising - the tick handler does a single velocity check */
+    IDLE,
+    /** Descending, but without a clutch item or onto a survivable drop, so prediction is skipped */
+    ARMED,
+    /** Descending with a clutch item available - full prediction and placement */
+    FALLING,
+    /** Landed - post-landing work runs until no MLG type has anything pending */
+    LANDED_CLEANUP
+}
@@ -0,0 +1,220 @@
+package name.mlgmaster;
+
+import name.mlgmaster.core.PlacementTiming;
+import name.mlgmaster.core.Trajectory;
+import net.minecraft.block.Block;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Everything the fall pipeline derives for one fall, compiled once when a clutch is chosen, or
+ * ahead of the drop by {@link EdgeLookahead}: the prediction with its trajectory and landing
+ * surface, the chosen type, its item and slot, the look target and the placement tick. Later
+ * ticks only verify that the player is still on the planned trajectory and that the landing
+ * cells and slot are unchanged, a few comparisons per tick; any deviation drops the plan and the
+ * pipeline compiles a new one.
+ */
+public class FallPlan {
+    // The predictor follows vanilla's air travel order, so an undisturbed fall stays within
+    // float rounding of the plan; knockback, input or a block change goes past these
+    private static final double POSITION_TOLERANCE = 0.05;
+    private static final double VELOCITY_TOLERANCE = 0.02;
+
+    private static MLGPredictionResult compiled = null;
+    private static MLGPredictionResult current = null;
+    private static MLGType type = null;
+    private static Item item = null;
+    private static int slotMask = 0;
+    private static int slot = -1;
+    private static BlockPos landingBlock = null;
+    private static BlockPos placementCell = null;
+    private static int landingStateId = 0;
+    private static int placementCellStateId = 0;
+    private static long compiledTick = 0;
+    private static int currentTrajectoryTick = -1;
+
+    private static long compiles = 0;
+    private static long verifiedTicks = 0;
+
+    /**
+     * Compile a plan from a full prediction and the type chosen for it. Predictions without a
+     * trajectory or without a chosen type leave no plan, so the next tick runs the full pipeline.
+     */
+    public static void compile(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction, MLGType chosenType) {
+        if (chosenType == null) {
+            clear();
+            return;
+        }
+        compileAt(client, prediction, ActionScheduler.getCurrentTick());
+        if (compiled != null) {
+            assignType(player, chosenType);
+        }
+    }
+
+    /**
+     * Compile a plan for a fall that starts on a later tick, from a prediction whose trajectory
+     * begins at the takeoff point. Types need the player airborne to judge applicability, so
+     * the type is assigned once the fall starts and the plan still holds.
+     */
+    public static void precompile(MinecraftClient client, MLGPredictionResult prediction,
+            long startTick) {
+        compileAt(client, prediction, startTick);
+    }
+
+    /**
+     * Attach the chosen type, its item and slot to a compiled plan
+     */
+    public static void assignType(ClientPlayerEntity player, MLGType chosenType) {
+        type = chosenType;
+        item = chosenType.getPlannedItem(compiled);
+        slotMask = item != null ? HotbarIndex.getSlotMask(player.getInventory(), item) : 0;
+        slot = item != null ? HotbarIndex.findHotbarSlot(player.getInventory(), item) : -1;
+
+        MLGMaster.LOGGER.debug("FALL PLAN: {} with {} on {}, slot {}, placement tick {}",
+                type.getName(), item, landingBlock, slot, getPlacementTick());
+    }
+
+    /**
+     * The plan's prediction for the current tick if the player is still on the planned path, or
+     * null if there is no plan or it no longer holds. Repeated calls within one tick reuse the
+     * same result.
+     */
+    public static MLGPredictionResult verify(MinecraftClient client, ClientPlayerEntity player) {
+        if (compiled == null) {
+            return null;
+        }
+
+        long elapsed = ActionScheduler.getCurrentTick() - compiledTick;
+        Trajectory trajectory = compiled.getTrajectory();
+        if (elapsed < 0 || elapsed >= trajectory.size()
+                || !holds(client, player, (int) elapsed)) {
+            MLGMaster.LOGGER.debug("FALL PLAN: Deviation at trajectory tick {}, replanning",
+                    elapsed);
+            clear();
+            return null;
+        }
+
+        verifiedTicks++;
+        if (elapsed != currentTrajectoryTick) {
+            currentTrajectoryTick = (int) elapsed;
+            current = FallPredictionSystem.advance(compiled, player, currentTrajectoryTick);
+        }
+        return current;
+    }
+
+    private static void compileAt(MinecraftClient client, MLGPredictionResult prediction,
+            long startTick) {
+        clear();
+        if (client.world == null || prediction.getTrajectory() == null
+                || prediction.getTrajectory().size() == 0) {
+            return;
+        }
+
+        compiled = prediction;
+        current = prediction;
+        landingBlock = prediction.getHighestLandingBlock();
+        placementCell = landingBlock.up();
+        landingStateId = Block.getRawIdFromState(
+                PendingPlacements.getBlockState(client.world, landingBlock));
+        placementCellStateId = Block.getRawIdFromState(
+                PendingPlacements.getBlockState(client.world, placementCell));
+        compiledTick = startTick;
+        currentTrajectoryTick = 0;
+        compiles++;
+    }
+
+    public static void clear() {
+        compiled = null;
+        current = null;
+        type = null;
+        item = null;
+        slotMask = 0;
+        slot = -1;
+        landingBlock = null;
+        placementCell = null;
+        currentTrajectoryTick = -1;
+    }
+
+    public static boolean isActive() {
+        return compiled != null;
+    }
+
+    public static MLGType getType() {
+        return type;
+    }
+
+    public static Item getItem() {
+        return item;
+    }
+
+    /**
+     * Hotbar slot holding the planned item when the plan was compiled, or -1
+     */
+    public static int getSlot() {
+        return slot;
+    }
+
+    public static BlockPos getLandingBlock() {
+        return landingBlock;
+    }
+
+    public static Vec3d getLookTarget() {
+        if (compiled == null) {
+            return null;
+        }
+        return type != null ? type.getPlanTarget(compiled) : compiled.getPlacementTarget();
+    }
+
+    /**
+     * Client tick on which the placement is planned to fire, or -1 without timing
+     */
+    public static long getPlacementTick() {
+        if (compiled == null || compiled.getTicksToImpact() < 0) {
+            return -1;
+        }
+        return compiledTick + PlacementTiming.optimalPlacementTick(compiled.getTicksToImpact());
+    }
+
+    public static long getCompiles() {
+        return compiles;
+    }
+
+    public static long getVerifiedTicks() {
+        return verifiedTicks;
+    }
+
+    private static boolean holds(MinecraftClient client, ClientPlayerEntity player, int tick) {
+        Trajectory trajectory = compiled.getTrajectory();
+        if (Math.abs(player.getY() - trajectory.getStartY(tick)) > POSITION_TOLERANCE
+                || Math.abs(player.getX() - trajectory.getStartX(tick)) > POSITION_TOLERANCE
+                || Math.abs(player.getZ() - trajectory.getStartZ(tick)) > POSITION_TOLERANCE) {
+            return false;
+        }
+
+        // Each entry holds the velocity the tick moves by, which is what the player carries now;
+        // the landing entry only holds what is left after the collision
+        Vec3d velocity = player.getVelocity();
+        if (tick < trajectory.size() - 1
+                && Math.abs(velocity.y - trajectory.getVelocityY(tick)) > VELOCITY_TOLERANCE) {
+            return false;
+        }
+
+        if (client.world == null) {
+            return false;
+        }
+        if (Block.getRawIdFromState(PendingPlacements.getBlockState(client.world, landingBlock))
+                != landingStateId) {
+            return false;
+        }
+        if (Block.getRawIdFromState(PendingPlacements.getBlockState(client.world, placementCell))
+                != placementCellStateId) {
+            return false;
+        }
+
+        return item == null || HotbarIndex.getSlotMask(player.getInventory(), item) == slotMask;
+    }
+}
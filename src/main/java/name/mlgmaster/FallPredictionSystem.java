@@ -1,6 +1,8 @@
 package name.mlgmaster;
 
 import name.mlgmaster.SafeLandingBlockChecker.SafetyResult;
+import name.mlgmaster.core.PlacementTiming;
+import name.mlgmaster.core.Trajectory;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.item.Items;
@@ -13,24 +15,34 @@ import net.minecraft.util.math.Vec3d;
 public class FallPredictionSystem {
 
     // MLG Configuration
-    private static final int PLACEMENT_BUFFER_TICKS = 1;
     private static final int MAX_PLACEMENT_DISTANCE_BLOCKS = 5;
     private static final double MIN_DANGEROUS_FALL_DISTANCE = 3.0;
     private static final double MIN_FALL_VELOCITY = 0.1;
+    private static final String TOO_FAR_REASON = "Target too far: %.1f blocks";
 
     /**
      * Complete MLG analysis with improved validation
      */
     public static MLGPredictionResult analyzeFallAndPlacement(MinecraftClient client,
             ClientPlayerEntity player, Vec3d velocity) {
-        Vec3d playerPos = player.getPos();
-
         // Initial fall state validation
         FallStateValidation validation = validateFallState(player, velocity);
         if (!validation.isValid()) {
             return createFailResult(validation.getReason(), 0);
         }
 
+        return analyzeFallFrom(client, player, player.getPos(), velocity);
+    }
+
+    /**
+     * Analysis of a fall starting at the given position and velocity instead of the player's
+     * current state; {@link EdgeLookahead} uses it for drops the player has not reached yet.
+     * Nothing is cleaned up here: the analysis also runs while idle and mid-fall, and cleanup
+     * belongs to the landing phase of {@link MLGHandler}. A target out of reach still reports
+     * the landing, with no placement, so later ticks can carry it until it comes into range.
+     */
+    public static MLGPredictionResult analyzeFallFrom(MinecraftClient client,
+            ClientPlayerEntity player, Vec3d playerPos, Vec3d velocity) {
         // Simulate player movement using improved physics
         MinecraftPhysics.MovementSimulationResult simulation = MinecraftPhysics.simulatePlayerMovement(client, player,
                 playerPos, velocity);
@@ -63,8 +75,6 @@ public class FallPredictionSystem {
             return createFailResult("Invalid landing block position", 0);
         }
 
-        MLGHandler.handleCleanup(client, player);
-
         // Get safety result from landing result
         SafeLandingBlockChecker.SafetyResult safetyResult = landingResult.getSafetyResult();
 
@@ -75,21 +85,34 @@ public class FallPredictionSystem {
         }
 
         // Calculate precise placement timing
-        PlacementAnalysis timing = calculatePlacementTiming(player, velocity, simulation, landingBlock);
+        PlacementTiming timing = calculatePlacementTiming(playerPos, simulation, landingBlock);
 
         // Determine water placement position
         Vec3d waterPlacementTarget = landingResult.getLookTarget();
         double distanceToTarget = waterPlacementTarget != null ? playerPos.distanceTo(waterPlacementTarget)
                 : Double.MAX_VALUE;
 
+        // The server traces the use from where the eyes will be when the placement fires, which
+        // does not depend on how far away the player is now
+        if (waterPlacementTarget != null && !isTargetReachable(client, player, simulation,
+                timing, waterPlacementTarget, landingBlock)) {
+            MLGMaster.LOGGER.info("TIMING: Target {} blocked from predicted eye position",
+                    waterPlacementTarget);
+            return new MLGPredictionResult(false, true, landingResult, landingBlock, null,
+                    distanceToTarget, "Target not in line of sight", safetyResult,
+                    MAX_PLACEMENT_DISTANCE_BLOCKS, Items.WATER_BUCKET, timing.getTicksToImpact());
+        }
+
         // Validate placement distance
         if (distanceToTarget > MAX_PLACEMENT_DISTANCE_BLOCKS) {
             MLGMaster.LOGGER.info(
                     "TIMING: Target too far - Distance: {} blocks, Max: {} blocks",
                     distanceToTarget, MAX_PLACEMENT_DISTANCE_BLOCKS);
-            return createFailResult(
-                    "Target too far: " + String.format("%.1f", distanceToTarget) + " blocks",
-                    distanceToTarget);
+            // Keep the landing so a fall plan can carry it until the target comes into range
+            return new MLGPredictionResult(false, true, landingResult, landingBlock,
+                    waterPlacementTarget, distanceToTarget, tooFarReason(distanceToTarget),
+                    safetyResult, MAX_PLACEMENT_DISTANCE_BLOCKS, Items.WATER_BUCKET,
+                    timing.getTicksToImpact());
         }
 
         // Log comprehensive timing analysis
@@ -101,7 +124,49 @@ public class FallPredictionSystem {
 
         return new MLGPredictionResult(shouldPlace, true, landingResult, landingBlock,
                 waterPlacementTarget, distanceToTarget, reason, safetyResult,
-                MAX_PLACEMENT_DISTANCE_BLOCKS, Items.WATER_BUCKET);
+                MAX_PLACEMENT_DISTANCE_BLOCKS, Items.WATER_BUCKET, timing.getTicksToImpact());
+    }
+
+    /**
+     * Move a compiled prediction forward to a later tick of its own trajectory without simulating
+     * again; only the timing and the distance to the look target change. Used by
+     * {@link FallPlan} while the player stays on the planned path.
+     */
+    public static MLGPredictionResult advance(MLGPredictionResult compiled,
+            ClientPlayerEntity player, int trajectoryTick) {
+        int compiledTicks = compiled.getTicksToImpact();
+        int ticksToImpact = compiledTicks >= 0 ? Math.max(0, compiledTicks - trajectoryTick) : -1;
+        Vec3d target = compiled.getPlacementTarget();
+
+        // Safe landings and blocked targets have no target and nothing to time
+        if (target == null) {
+            return new MLGPredictionResult(false, compiled.willLand(),
+                    compiled.getLandingResult(), compiled.getHighestLandingBlock(), null,
+                    compiled.getDistanceToTarget(), compiled.getReason(),
+                    compiled.getSafetyResult(), compiled.getPlacementDistance(),
+                    compiled.getTargetItem(), ticksToImpact, trajectoryTick);
+        }
+
+        // Runs every tick of a planned fall, so the reason is only formatted when read
+        boolean shouldPlace = false;
+        String reasonFormat;
+        double reasonValue;
+        double distanceToTarget = player.getPos().distanceTo(target);
+        if (distanceToTarget > MAX_PLACEMENT_DISTANCE_BLOCKS) {
+            reasonFormat = TOO_FAR_REASON;
+            reasonValue = distanceToTarget;
+        } else {
+            int optimalTick = PlacementTiming.optimalPlacementTick(ticksToImpact);
+            shouldPlace = PlacementTiming.shouldPlaceNow(ticksToImpact);
+            reasonFormat = PlacementTiming.placementReasonFormat(ticksToImpact, optimalTick);
+            reasonValue = PlacementTiming.placementReasonTicks(ticksToImpact, optimalTick);
+        }
+
+        return MLGPredictionResult.withLazyReason(shouldPlace, compiled.willLand(),
+                compiled.getLandingResult(), compiled.getHighestLandingBlock(), target,
+                distanceToTarget, reasonFormat, reasonValue, compiled.getSafetyResult(),
+                compiled.getPlacementDistance(), compiled.getTargetItem(), ticksToImpact,
+                trajectoryTick);
     }
 
     /**
@@ -238,7 +303,9 @@ public class FallPredictionSystem {
             return new FallStateValidation(false, "Not falling");
         }
 
-        if (player.fallDistance < MIN_DANGEROUS_FALL_DISTANCE) {
+        // A drop spotted before the player left the ground is dangerous from its first tick
+        if (player.fallDistance < MIN_DANGEROUS_FALL_DISTANCE
+                && !EdgeLookahead.isExpectingDrop()) {
             return new FallStateValidation(false, "Insufficient fall distance");
         }
 
@@ -248,27 +315,44 @@ public class FallPredictionSystem {
         return new FallStateValidation(true, "Valid fall state");
     }
 
-    private static PlacementAnalysis calculatePlacementTiming(ClientPlayerEntity player,
-            Vec3d velocity, MinecraftPhysics.MovementSimulationResult simulation,
-            BlockPos targetBlock) {
+    /**
+     * Raycast reachability of the look target from the predicted eye position at the placement
+     * tick
+     */
+    private static boolean isTargetReachable(MinecraftClient client, ClientPlayerEntity player,
+            MinecraftPhysics.MovementSimulationResult simulation, PlacementTiming timing,
+            Vec3d target, BlockPos landingBlock) {
+        if (client.world == null) {
+            return false;
+        }
 
-        double currentHeight = player.getPos().y;
-        double groundHeight = targetBlock.getY() + 1.0; // Account for player height
-        int ticksToImpact = simulation.getSimulationTicks();
+        Trajectory trajectory = simulation.getCoreResult().getTrajectory();
+        if (trajectory.size() == 0) {
+            return PlacementReachability.isReachable(client.world, player, player.getX(),
+                    player.getEyeY(), player.getZ(), target, landingBlock);
+        }
 
-        // More aggressive timing - place when we're very close to impact
-        int optimalPlacementTick = Math.max(0, ticksToImpact - PLACEMENT_BUFFER_TICKS);
+        int tick = Math.min(timing.getOptimalPlacementTick(), trajectory.size() - 1);
+        double eyeY = trajectory.getStartY(tick) + player.getStandingEyeHeight();
+        return PlacementReachability.isReachable(client.world, player, trajectory.getStartX(tick),
+                eyeY, trajectory.getStartZ(tick), target, landingBlock);
+    }
+
+    private static PlacementTiming calculatePlacementTiming(Vec3d playerPos,
+            MinecraftPhysics.MovementSimulationResult simulation, BlockPos targetBlock) {
+        PlacementTiming timing = PlacementTiming.calculate(simulation.getCoreResult(),
+                playerPos.y, targetBlock.getY());
 
         MLGMaster.LOGGER.debug(
-                "PHYSICS CALCULATION: Current height: {}, Ground height: {}, "
+                "PHYSICS CALCULATION: Distance to ground: {}, "
                         + "Ticks to impact: {}, Optimal placement tick: {}",
-                currentHeight, groundHeight, ticksToImpact, optimalPlacementTick);
+                timing.getDistanceToGround(), timing.getTicksToImpact(),
+                timing.getOptimalPlacementTick());
 
-        return new PlacementAnalysis(ticksToImpact, optimalPlacementTick,
-                currentHeight - groundHeight);
+        return timing;
     }
 
-    private static void logTimingAnalysis(PlacementAnalysis timing, Vec3d playerPos,
+    private static void logTimingAnalysis(PlacementTiming timing, Vec3d playerPos,
             BlockPos landingBlock, Vec3d velocity, MinecraftPhysics.MovementSimulationResult simulation) {
         double distanceToGround = playerPos.y - (landingBlock.getY() + 1.0);
 
@@ -279,6 +363,9 @@ public class FallPredictionSystem {
                 distanceToGround, simulation.getFinalPosition());
 
         if (timing.shouldPlaceNow()) {
+            MLGMaster.LOGGER.info(
+                    "PLACEMENT TRIGGER: Should place NOW - Ticks to impact: {}, Threshold: {}",
+                    timing.getTicksToImpact(), timing.getOptimalPlacementTick());
             MLGMaster.LOGGER.info(
                     "PLACEMENT DECISION: PLACING NOW - Reason: {}, Fall speed: {} b/t",
                     timing.getPlacementReason(), Math.abs(velocity.y));
@@ -288,6 +375,10 @@ public class FallPredictionSystem {
         }
     }
 
+    private static String tooFarReason(double distanceToTarget) {
+        return String.format(TOO_FAR_REASON, distanceToTarget);
+    }
+
     private static MLGPredictionResult createFailResult(String reason, double distance) {
         return new MLGPredictionResult(false, false, null, null, null, -1, reason,
                 new SafeLandingBlockChecker.SafetyResult(false, reason), distance,
@@ -332,54 +423,6 @@ public class FallPredictionSystem {
         }
     }
 
-    private static class PlacementAnalysis {
-        private final int ticksToImpact;
-        private final int optimalPlacementTick;
-        private final double distanceToGround;
-
-        public PlacementAnalysis(int ticksToImpact, int optimalPlacementTick,
-                double distanceToGround) {
-            this.ticksToImpact = ticksToImpact;
-            this.optimalPlacementTick = optimalPlacementTick;
-            this.distanceToGround = distanceToGround;
-        }
-
-        public boolean shouldPlaceNow() {
-            boolean shouldPlace = ticksToImpact <= optimalPlacementTick;
-
-            if (shouldPlace) {
-                MLGMaster.LOGGER.info(
-                        "PLACEMENT TRIGGER: Should place NOW - Ticks to impact: {}, Threshold: {}",
-                        ticksToImpact, optimalPlacementTick);
-            }
-
-            return shouldPlace;
-        }
-
-        public String getPlacementReason() {
-            if (ticksToImpact <= 0) {
-                return "Critical timing - impact imminent";
-            } else if (ticksToImpact <= optimalPlacementTick) {
-                return String.format("Optimal timing - %d ticks to impact", ticksToImpact);
-            } else {
-                return String.format("Wait - %d ticks until optimal placement",
-                        ticksToImpact - optimalPlacementTick);
-            }
-        }
-
-        public int getTicksToImpact() {
-            return ticksToImpact;
-        }
-
-        public int getOptimalPlacementTick() {
-            return optimalPlacementTick;
-        }
-
-        public double getDistanceToGround() {
-            return distanceToGround;
-        }
-    }
-
     public static class FallAnalysisResult {
         private final boolean isFalling;
         private final boolean isDangerous;
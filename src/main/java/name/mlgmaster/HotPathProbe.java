@@ -0,0 +1,23 @@
+package name.mlgmaster;
+
+/**
+ * Observer for the stages of {@link MLGHandler#onHighFrequencyTick}. The default probe does
+ * nothing; test harnesses install one to measure per-stage cost.
+ */
+public interface HotPathProbe {
+    int PREDICTION = 0;
+    int EVALUATION = 1;
+    int PLACEMENT = 2;
+
+    HotPathProbe NONE = new HotPathProbe() {
+        @Override
+        public void begin(int stage) {}
+
+        @Override
+        public void end(int stage) {}
+    };
+
+    void begin(int stage);
+
+    void end(int stage);
+}
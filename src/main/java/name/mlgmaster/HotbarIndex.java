@@ -0,0 +1,263 @@
+package name.mlgmaster;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import name.mlgmaster.mixin.PlayerInventoryAccessor;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+
+/**
+ * Item to hotbar-slot index for the local player, kept current by {@code PlayerInventoryMixin}
+ * and inventory sync packets so clutch queries are O(1) instead of hotbar scans. Each indexed item
+ * maps to a bitmask of the slots holding it (bits 0-8 hotbar, bit 9 off hand), and every
+ * registered clutch item group owns one bit of {@link #getClutchMask(PlayerInventory)}.
+ *
+ * Stacks can empty in place without a slot update ({@code ItemStack.decrement} on the last
+ * item), so every slot a query answers with is checked against the live stack and a stale entry
+ * triggers a rebuild.
+ */
+public class HotbarIndex {
+    public static final int HOTBAR_SIZE = 9;
+    public static final int OFF_HAND_BIT = 1 << HOTBAR_SIZE;
+    public static final int HOTBAR_MASK = OFF_HAND_BIT - 1;
+
+    private static final int INDEXED_SLOTS = HOTBAR_SIZE + 1;
+    private static final int MAX_CLUTCH_GROUPS = 32;
+
+    private static final Item[] slotItems = new Item[INDEXED_SLOTS];
+    private static final Reference2IntOpenHashMap<Item> slotMasks = new Reference2IntOpenHashMap<>();
+    private static final Reference2IntOpenHashMap<Item> clutchBits = new Reference2IntOpenHashMap<>();
+
+    private static PlayerInventory indexedInventory = null;
+    private static boolean dirty = true;
+    private static int clutchMask = 0;
+    // Indexed slots holding a registered clutch item, the ones the clutch mask depends on
+    private static int clutchSlots = 0;
+    private static int clutchBitCount = 0;
+
+    static {
+        slotMasks.defaultReturnValue(0);
+        clutchBits.defaultReturnValue(0);
+    }
+
+    /**
+     * Assign a clutch bit to an item so its presence shows up in {@link #getClutchMask(PlayerInventory)}
+     *
+     * @return the item's clutch bit
+     */
+    public static int registerClutchItem(Item item) {
+        return registerClutchItems(new Item[] { item });
+    }
+
+    /**
+     * Register a group of interchangeable clutch items (every boat, say) under one shared bit, so
+     * large groups do not exhaust the mask. Items already registered keep their bits.
+     *
+     * @return the bits covering every item in the group
+     */
+    public static int registerClutchItems(Item[] items) {
+        int mask = 0;
+        int groupBit = 0;
+        for (Item item : items) {
+            int existing = clutchBits.getInt(item);
+            if (existing != 0) {
+                mask |= existing;
+                continue;
+            }
+            if (groupBit == 0) {
+                if (clutchBitCount >= MAX_CLUTCH_GROUPS) {
+                    throw new IllegalStateException("Too many clutch items registered");
+                }
+                groupBit = 1 << clutchBitCount++;
+            }
+            clutchBits.put(item, groupBit);
+            mask |= groupBit;
+        }
+
+        if (groupBit != 0) {
+            dirty = true;
+        }
+        return mask;
+    }
+
+    public static int getClutchBit(Item item) {
+        return clutchBits.getInt(item);
+    }
+
+    /**
+     * Called from the inventory mixin whenever the local player's inventory slot changes
+     */
+    public static void onSlotChanged(PlayerInventory inventory, int slot, ItemStack stack) {
+        if (inventory != indexedInventory || dirty) {
+            dirty = true;
+            return;
+        }
+
+        int indexSlot = toIndexSlot(slot);
+        if (indexSlot < 0) {
+            return;
+        }
+
+        Item newItem = stack.isEmpty() ? Items.AIR : stack.getItem();
+        Item oldItem = slotItems[indexSlot];
+        if (oldItem == newItem) {
+            return;
+        }
+
+        int bit = 1 << indexSlot;
+        removeSlot(oldItem, bit);
+        addSlot(newItem, bit);
+        slotItems[indexSlot] = newItem;
+    }
+
+    /**
+     * Mark the index stale; it is rebuilt on the next query
+     */
+    public static void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Rebuild the index from the inventory now, for inventory syncs that replace many slots
+     */
+    public static void refresh(PlayerInventory inventory) {
+        rebuild(inventory);
+    }
+
+    /**
+     * Bitmask of slots holding the item (bits 0-8 hotbar, bit 9 off hand)
+     */
+    public static int getSlotMask(PlayerInventory inventory, Item item) {
+        ensureCurrent(inventory);
+        int mask = slotMasks.getInt(item);
+        if (isStale(inventory, mask)) {
+            rebuild(inventory);
+            mask = slotMasks.getInt(item);
+        }
+        return mask;
+    }
+
+    /**
+     * Hotbar slot holding the item, preferring the selected slot, or -1 if none
+     */
+    public static int findHotbarSlot(PlayerInventory inventory, Item item) {
+        int mask = getSlotMask(inventory, item) & HOTBAR_MASK;
+        if (mask == 0) {
+            return -1;
+        }
+
+        int selected = ((PlayerInventoryAccessor) inventory).getSelectedSlot();
+        if ((mask & (1 << selected)) != 0) {
+            return selected;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * Item in an indexed slot (0-8 hotbar, {@link #HOTBAR_SIZE} off hand), {@code AIR} if empty.
+     * Unlike slot masks this is not checked against the live stack, so callers validate before
+     * use.
+     */
+    public static Item getIndexedItem(PlayerInventory inventory, int indexSlot) {
+        ensureCurrent(inventory);
+        return slotItems[indexSlot];
+    }
+
+    public static boolean hasInHotbar(PlayerInventory inventory, Item item) {
+        return findHotbarSlot(inventory, item) >= 0;
+    }
+
+    /**
+     * Bits of every registered clutch item currently in the hotbar or off hand
+     */
+    public static int getClutchMask(PlayerInventory inventory) {
+        ensureCurrent(inventory);
+        if (isStale(inventory, clutchSlots)) {
+            rebuild(inventory);
+        }
+        return clutchMask;
+    }
+
+    /**
+     * Whether any slot in the mask no longer holds the item indexed for it
+     */
+    private static boolean isStale(PlayerInventory inventory, int mask) {
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            int indexSlot = Integer.numberOfTrailingZeros(bits);
+            if (!inventory.getStack(toInventorySlot(indexSlot)).isOf(slotItems[indexSlot])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void ensureCurrent(PlayerInventory inventory) {
+        if (dirty || inventory != indexedInventory) {
+            rebuild(inventory);
+        }
+    }
+
+    private static void rebuild(PlayerInventory inventory) {
+        slotMasks.clear();
+        clutchMask = 0;
+        clutchSlots = 0;
+
+        for (int indexSlot = 0; indexSlot < INDEXED_SLOTS; indexSlot++) {
+            ItemStack stack = inventory.getStack(toInventorySlot(indexSlot));
+            Item item = stack.isEmpty() ? Items.AIR : stack.getItem();
+            slotItems[indexSlot] = item;
+            addSlot(item, 1 << indexSlot);
+        }
+
+        indexedInventory = inventory;
+        dirty = false;
+    }
+
+    private static void addSlot(Item item, int bit) {
+        if (item == Items.AIR) {
+            return;
+        }
+        slotMasks.put(item, slotMasks.getInt(item) | bit);
+        int clutchBit = clutchBits.getInt(item);
+        if (clutchBit != 0) {
+            clutchMask |= clutchBit;
+            clutchSlots |= bit;
+        }
+    }
+
+    private static void removeSlot(Item item, int bit) {
+        if (item == null || item == Items.AIR) {
+            return;
+        }
+        clutchSlots &= ~bit;
+
+        int remaining = slotMasks.getInt(item) & ~bit;
+        if (remaining == 0) {
+            slotMasks.removeInt(item);
+            int clutchBit = clutchBits.getInt(item);
+            if (clutchBit != 0) {
+                // Other items in the same group may still hold the bit
+                clutchMask &= ~clutchBit;
+                for (Item other : slotItems) {
+                    if (other != null && other != item) {
+                        clutchMask |= clutchBits.getInt(other);
+                    }
+                }
+            }
+        } else {
+            slotMasks.put(item, remaining);
+        }
+    }
+
+    private static int toIndexSlot(int inventorySlot) {
+        if (inventorySlot >= 0 && inventorySlot < HOTBAR_SIZE) {
+            return inventorySlot;
+        }
+        return inventorySlot == PlayerInventory.OFF_HAND_SLOT ? HOTBAR_SIZE : -1;
+    }
+
+    private static int toInventorySlot(int indexSlot) {
+        return indexSlot < HOTBAR_SIZE ? indexSlot : PlayerInventory.OFF_HAND_SLOT;
+    }
+}
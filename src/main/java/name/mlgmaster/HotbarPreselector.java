@@ -0,0 +1,71 @@
+package name.mlgmaster;
+
+import name.mlgmaster.mixin.PlayerInventoryAccessor;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.Item;
+
+/**
+ * Selects the clutch item's hotbar slot a few ticks before the placement tick, so vanilla syncs
+ * the slot on an ordinary tick and the placement burst carries only the look and use packets.
+ * The previous slot is restored once the landing is fully handled.
+ */
+public class HotbarPreselector {
+    private static final int NO_SLOT = -1;
+
+    private static int originalSlot = NO_SLOT;
+    private static int preselectedSlot = NO_SLOT;
+
+    /**
+     * Called every falling tick with the latest prediction
+     */
+    public static void update(ClientPlayerEntity player, MLGPredictionResult prediction) {
+        int leadTicks = MLGConfig.get().getHotbarPreselectLeadTicks();
+        int ticksToImpact = prediction.getTicksToImpact();
+        Item item = prediction.getTargetItem();
+
+        if (leadTicks == 0 || ticksToImpact < 0 || ticksToImpact > leadTicks || item == null) {
+            return;
+        }
+
+        if (player.getMainHandStack().isOf(item) || player.getOffHandStack().isOf(item)) {
+            return;
+        }
+
+        int slot = HotbarIndex.findHotbarSlot(player.getInventory(), item);
+        if (slot < 0) {
+            return;
+        }
+
+        PlayerInventoryAccessor inventory = (PlayerInventoryAccessor) player.getInventory();
+        if (originalSlot == NO_SLOT) {
+            originalSlot = inventory.getSelectedSlot();
+        }
+        inventory.setSelectedSlot(slot);
+        preselectedSlot = slot;
+
+        MLGMaster.LOGGER.info("HOTBAR PRESELECT: Slot {} -> {} with {} ticks to impact",
+                originalSlot, slot, ticksToImpact);
+    }
+
+    /**
+     * Switch back to the pre-fall slot unless the player picked a different slot themselves
+     */
+    public static void restore(ClientPlayerEntity player) {
+        if (preselectedSlot == NO_SLOT) {
+            return;
+        }
+
+        PlayerInventoryAccessor inventory = (PlayerInventoryAccessor) player.getInventory();
+        if (MLGConfig.get().shouldRestoreSlotAfterLanding()
+                && inventory.getSelectedSlot() == preselectedSlot) {
+            inventory.setSelectedSlot(originalSlot);
+        }
+
+        originalSlot = NO_SLOT;
+        preselectedSlot = NO_SLOT;
+    }
+
+    public static boolean hasPreselected() {
+        return preselectedSlot != NO_SLOT;
+    }
+}
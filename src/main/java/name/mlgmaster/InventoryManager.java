@@ -13,12 +13,9 @@ public class InventoryManager {
             return true;
         }
 
-        // Search hotbar for target item
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = player.getInventory().getStack(i);
-            if (stack.getItem() == targetItem) {
-                return switchToSlot(player, i);
-            }
+        int slot = HotbarIndex.findHotbarSlot(player.getInventory(), targetItem);
+        if (slot >= 0) {
+            return switchToSlot(player, slot);
         }
 
         MLGMaster.LOGGER.warn("No {} found in hotbar", targetItem.getName().getString());
@@ -43,14 +40,6 @@ public class InventoryManager {
             return true;
         }
 
-        // Check hotbar
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = player.getInventory().getStack(i);
-            if (stack.getItem() == targetItem) {
-                return true;
-            }
-        }
-
-        return false;
+        return HotbarIndex.hasInHotbar(player.getInventory(), targetItem);
     }
 }
@@ -0,0 +1,241 @@
+package name.mlgmaster;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import name.mlgmaster.core.LandingSafetyTable;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.state.property.Property;
+import net.minecraft.util.Identifier;
+
+/**
+ * Compiles landing behavior definitions from {@code assets/<namespace>/landing_behaviors/*.json}
+ * into a {@link LandingSafetyTable}. Definitions reload with resource packs (F3+T) and the table
+ * is recompiled whenever they or tags change, since rules may match by tag.
+ *
+ * <p>Each file holds an {@code entries} array; an entry lists {@code blocks} (ids or
+ * {@code #tags}), optional {@code properties} the state must have, and any of {@code class},
+ * {@code damage_multiplier} and {@code clutch}. Later entries override earlier ones for the
+ * fields they set. A file with {@code "replace": true} discards everything loaded before it.
+ */
+public class LandingSafetyTables {
+    private static final String DIRECTORY = "landing_behaviors";
+
+    private static LandingSafetyTable table = new LandingSafetyTable(0);
+    private static List<LandingRule> rules = List.of();
+
+    private static class LandingRule {
+        private final Set<Block> blocks = new ReferenceOpenHashSet<>();
+        private final List<TagKey<Block>> tags = new ArrayList<>();
+        private final Map<String, String> properties = new LinkedHashMap<>();
+        private byte landingClass = -1;
+        private float damageMultiplier = Float.NaN;
+        private Boolean clutch;
+
+        private boolean matches(BlockState state) {
+            if (!blocks.contains(state.getBlock()) && !isInAnyTag(state)) {
+                return false;
+            }
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                Property<?> stateProperty =
+                        state.getBlock().getStateManager().getProperty(property.getKey());
+                if (stateProperty == null
+                        || !property.getValue().equals(valueName(state, stateProperty))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isInAnyTag(BlockState state) {
+            for (TagKey<Block> tag : tags) {
+                if (state.isIn(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public static LandingSafetyTable get() {
+        return table;
+    }
+
+    public static byte classify(BlockState state) {
+        return table.classify(Block.getRawIdFromState(state));
+    }
+
+    public static float getDamageMultiplier(BlockState state) {
+        return table.getDamageMultiplier(Block.getRawIdFromState(state));
+    }
+
+    public static boolean isClutch(BlockState state) {
+        return table.isClutch(Block.getRawIdFromState(state));
+    }
+
+    /**
+     * Hook definition loading into client resource reloads, which also run once at startup
+     */
+    public static void registerReloadListener() {
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES)
+                .registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+                    @Override
+                    public Identifier getFabricId() {
+                        return Identifier.of(MLGMaster.MOD_ID, DIRECTORY);
+                    }
+
+                    @Override
+                    public void reload(ResourceManager manager) {
+                        load(manager);
+                    }
+                });
+    }
+
+    /**
+     * Parse every definition file and recompile the table
+     */
+    public static void load(ResourceManager manager) {
+        long start = System.nanoTime();
+        // Sorted so override order does not depend on pack enumeration order
+        Map<Identifier, Resource> files = new TreeMap<>(
+                manager.findResources(DIRECTORY, id -> id.getPath().endsWith(".json")));
+        List<LandingRule> loaded = new ArrayList<>();
+
+        for (Map.Entry<Identifier, Resource> file : files.entrySet()) {
+            try (Reader reader = file.getValue().getReader()) {
+                JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+                if (root.has("replace") && root.get("replace").getAsBoolean()) {
+                    loaded.clear();
+                }
+                for (JsonElement entry : root.getAsJsonArray("entries")) {
+                    LandingRule rule = parseRule(file.getKey(), entry.getAsJsonObject());
+                    if (rule != null) {
+                        loaded.add(rule);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                MLGMaster.LOGGER.error("Failed to read landing behaviors {}: {}", file.getKey(),
+                        e.getMessage());
+            }
+        }
+
+        rules = loaded;
+        MLGMaster.LOGGER.info("Loaded {} landing behavior rules from {} files in {}ms",
+                loaded.size(), files.size(), (System.nanoTime() - start) / 1_000_000.0);
+        rebuild();
+    }
+
+    public static void rebuild() {
+        long start = System.nanoTime();
+        LandingSafetyTable built = new LandingSafetyTable(Block.STATE_IDS.size());
+        List<LandingRule> current = rules;
+
+        for (BlockState state : Block.STATE_IDS) {
+            int id = Block.getRawIdFromState(state);
+            for (LandingRule rule : current) {
+                if (!rule.matches(state)) {
+                    continue;
+                }
+                if (rule.landingClass >= 0) {
+                    built.set(id, rule.landingClass);
+                }
+                if (!Float.isNaN(rule.damageMultiplier)) {
+                    built.setDamageMultiplier(id, rule.damageMultiplier);
+                }
+                if (rule.clutch != null) {
+                    built.setClutch(id, rule.clutch);
+                }
+            }
+        }
+
+        table = built;
+
+        int[] counts = built.countByClass();
+        MLGMaster.LOGGER.info(
+                "Landing safety table compiled: {} states ({} bytes) in {}ms - safe={} crouch={} below-check={} clutch={}",
+                built.size(), built.getByteSize(), (System.nanoTime() - start) / 1_000_000.0,
+                counts[LandingSafetyTable.SAFE], counts[LandingSafetyTable.NEEDS_CROUCH],
+                counts[LandingSafetyTable.NEEDS_BELOW_CHECK], built.countClutch());
+    }
+
+    private static LandingRule parseRule(Identifier file, JsonObject entry) {
+        LandingRule rule = new LandingRule();
+
+        JsonArray blocks = entry.getAsJsonArray("blocks");
+        if (blocks == null) {
+            throw new JsonParseException("entry without \"blocks\"");
+        }
+        for (JsonElement element : blocks) {
+            String name = element.getAsString();
+            if (name.startsWith("#")) {
+                Identifier tagId = Identifier.tryParse(name.substring(1));
+                if (tagId == null) {
+                    MLGMaster.LOGGER.warn("Invalid tag '{}' in {}", name, file);
+                    continue;
+                }
+                rule.tags.add(TagKey.of(RegistryKeys.BLOCK, tagId));
+            } else {
+                Identifier blockId = Identifier.tryParse(name);
+                Optional<Block> block =
+                        blockId != null ? Registries.BLOCK.getOptionalValue(blockId)
+                                : Optional.empty();
+                if (block.isEmpty()) {
+                    // Usually a block from a mod that is not installed
+                    MLGMaster.LOGGER.debug("Skipping unknown block '{}' in {}", name, file);
+                    continue;
+                }
+                rule.blocks.add(block.get());
+            }
+        }
+        if (rule.blocks.isEmpty() && rule.tags.isEmpty()) {
+            return null;
+        }
+
+        if (entry.has("properties")) {
+            for (Map.Entry<String, JsonElement> property : entry.getAsJsonObject("properties")
+                    .entrySet()) {
+                rule.properties.put(property.getKey(), property.getValue().getAsString());
+            }
+        }
+        if (entry.has("class")) {
+            String className = entry.get("class").getAsString();
+            rule.landingClass = LandingSafetyTable.parseClass(className);
+            if (rule.landingClass < 0) {
+                throw new JsonParseException("unknown landing class '" + className + "'");
+            }
+        }
+        if (entry.has("damage_multiplier")) {
+            rule.damageMultiplier = entry.get("damage_multiplier").getAsFloat();
+        }
+        if (entry.has("clutch")) {
+            rule.clutch = entry.get("clutch").getAsBoolean();
+        }
+        return rule;
+    }
+
+    private static <T extends Comparable<T>> String valueName(BlockState state,
+            Property<T> property) {
+        return property.name(state.get(property));
+    }
+}
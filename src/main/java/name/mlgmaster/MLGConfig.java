@@ -0,0 +1,92 @@
+package name.mlgmaster;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import net.fabricmc.loader.api.FabricLoader;
+
+/**
+ * User settings stored as JSON in the Fabric config directory; missing keys keep their defaults
+ */
+public class MLGConfig {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String FILE_NAME = MLGMaster.MOD_ID + ".json";
+
+    private static MLGConfig instance = new MLGConfig();
+
+    // Ticks before the predicted impact to select the clutch item's hotbar slot; 0 disables
+    private int hotbarPreselectLeadTicks = 3;
+    // Switch back to the slot that was selected before the fall once post-landing work is done
+    private boolean restoreSlotAfterLanding = true;
+    // Ticks before the predicted impact to start turning toward the placement target
+    private int preAimLeadTicks = 8;
+    // Upper bound on how far pre-aim turns the view per tick, in degrees
+    private float preAimMaxDegreesPerTick = 25.0f;
+    // Falls that leave at least this much health (after armor enchantments, effects and
+    // absorption) are ignored without running prediction
+    private float survivabilityThreshold = 4.0f;
+
+    public static MLGConfig get() {
+        return instance;
+    }
+
+    /**
+     * Read the config file, writing it back so new keys show up with their defaults
+     */
+    public static void load() {
+        Path path = getPath();
+
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                MLGConfig loaded = GSON.fromJson(reader, MLGConfig.class);
+                if (loaded != null) {
+                    instance = loaded;
+                }
+            } catch (IOException | JsonParseException e) {
+                MLGMaster.LOGGER.error("Failed to read config {}, using defaults: {}", path,
+                        e.getMessage());
+                return;
+            }
+        }
+
+        save();
+    }
+
+    public static void save() {
+        Path path = getPath();
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            GSON.toJson(instance, writer);
+        } catch (IOException e) {
+            MLGMaster.LOGGER.error("Failed to write config {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static Path getPath() {
+        return FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME);
+    }
+
+    public int getHotbarPreselectLeadTicks() {
+        return Math.max(0, hotbarPreselectLeadTicks);
+    }
+
+    public boolean shouldRestoreSlotAfterLanding() {
+        return restoreSlotAfterLanding;
+    }
+
+    public int getPreAimLeadTicks() {
+        return Math.max(0, preAimLeadTicks);
+    }
+
+    public float getPreAimMaxDegreesPerTick() {
+        return Math.max(0.0f, preAimMaxDegreesPerTick);
+    }
+
+    public float getSurvivabilityThreshold() {
+        return survivabilityThreshold;
+    }
+}
@@ -5,17 +5,21 @@ import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.BlockPos;
 
-import java.util.ArrayList;
 import java.util.List;
-import name.mlgmaster.MLGTypes.BlockMLG;
-import name.mlgmaster.MLGTypes.WaterMLG;
 
 public class MLGHandler {
     private static boolean highFreqTimerRunning = false;
     private static long lastPredictionTime = 0;
     private static final long PREDICTION_INTERVAL = 50;
+    private static final double FALLING_VELOCITY = -0.1;
+    private static final int MAX_CLEANUP_TICKS = 20;
+    private static final String CROUCH_ACTION = "scaffolding-crouch";
 
-    private static final List<MLGType> mlgTypes = new ArrayList<>();
+    private static FallPhase phase = FallPhase.IDLE;
+    private static int cleanupTicks = 0;
+    private static boolean crouchStepScheduled = false;
+
+    private static HotPathProbe hotPathProbe = HotPathProbe.NONE;
 
     // Landing prediction rendering
     private static BlockPos predictedLandingBlock = null;
@@ -23,79 +27,111 @@ public class MLGHandler {
     private static Vec3d predictedLandingPosition = null;
     private static Vec3d previousPredictedLandingPosition = null;
 
-    public static class MLGApplicabilityResult {
-        private final MLGType type;
-        private final String name;
-        private final boolean isApplicable;
-        private final int priority; // Higher number = higher priority
-
-        public MLGApplicabilityResult(MLGType type, String name, boolean isApplicable,
-                int priority) {
-            this.type = type;
-            this.name = name;
-            this.isApplicable = isApplicable;
-            this.priority = priority;
-        }
-
-        @Override
-        public String toString() {
-            return String.format("MLGApplicabilityResult{name='%s', applicable=%s, priority=%d}",
-                    name, isApplicable, priority);
-        }
-
-        public MLGType getType() {
-            return type;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public boolean isApplicable() {
-            return isApplicable;
-        }
-
-        public int getPriority() {
-            return priority;
-        }
-    }
-
-    static {
-        registerMLGTypes();
-    }
-
-    private static void registerMLGTypes() {
-        mlgTypes.add(new WaterMLG());
-        mlgTypes.add(new BlockMLG());
-    }
-
+    /**
+     * Advance the fall state machine; while idle this is a single velocity and ground check plus
+     * the edge lookahead, which is throttled to block changes near edges
+     */
     public static void onHighFrequencyTick() {
         MinecraftClient client = MinecraftClient.getInstance();
         ClientPlayerEntity player = client.player;
         Vec3d velocity = player.getVelocity();
+        boolean descending = velocity.y < FALLING_VELOCITY && !player.isOnGround();
 
-        if (velocity.y >= -0.1 || player.isOnGround()) {
-            handleCleanup(client, player);
+        if (phase == FallPhase.IDLE && !descending) {
+            EdgeLookahead.update(client, player);
             return;
         }
 
-        updateLandingPrediction(client, player, velocity);
-
-        MLGPredictionResult prediction =
-                FallPredictionSystem.analyzeFallAndPlacement(client, player, velocity);
+        switch (phase) {
+            case IDLE:
+                phase = FallPhase.ARMED;
+                // Fall through so the first descending tick is not lost
+            case ARMED:
+            case FALLING:
+                if (!descending) {
+                    enterCleanup();
+                    tickCleanup(client, player);
+                    return;
+                }
+                // A plan is only compiled for a dangerous drop and tickFalling re-checks that it
+                // still holds, so the column scan is skipped while there is one
+                boolean clutchNeeded = HotbarIndex.getClutchMask(player.getInventory()) != 0
+                        && (FallPlan.isActive()
+                                || !FallDamageEstimator.isSurvivableDrop(client.world, player));
+                phase = clutchNeeded ? FallPhase.FALLING : FallPhase.ARMED;
+                if (phase == FallPhase.FALLING) {
+                    tickFalling(client, player, velocity);
+                }
+                return;
+            case LANDED_CLEANUP:
+                tickCleanup(client, player);
+                if (descending && phase == FallPhase.IDLE) {
+                    phase = FallPhase.ARMED;
+                }
+                return;
+        }
+    }
 
-        List<MLGApplicabilityResult> applicabilityResults =
-                evaluateMLGTypes(client, player, velocity, prediction);
+    private static void tickFalling(MinecraftClient client, ClientPlayerEntity player,
+            Vec3d velocity) {
+        HotPathProbe probe = hotPathProbe;
+
+        probe.begin(HotPathProbe.PREDICTION);
+        // A plan still on its trajectory stands in for the whole prediction and selection
+        MLGPredictionResult prediction = FallPlan.verify(client, player);
+        boolean planned = prediction != null;
+        if (!planned) {
+            updateLandingPrediction(client, player, velocity);
+            prediction = FallPredictionSystem.analyzeFallAndPlacement(client, player, velocity);
+        }
+        probe.end(HotPathProbe.PREDICTION);
 
-        handleHighFrequencyTimer(client, player, velocity, applicabilityResults);
+        HotbarPreselector.update(player, prediction);
+        scheduleLandingSteps(prediction);
 
-        
+        probe.begin(HotPathProbe.EVALUATION);
+        MLGType chosenMLG;
+        if (planned && FallPlan.getType() != null) {
+            chosenMLG = FallPlan.getType();
+        } else {
+            chosenMLG = MLGRegistry.select(client, player, velocity, prediction);
+            if (!planned) {
+                FallPlan.compile(client, player, prediction, chosenMLG);
+            } else if (chosenMLG != null) {
+                // Precompiled before the drop; only the type was left open
+                FallPlan.assignType(player, chosenMLG);
+            }
+        }
 
-        MLGApplicabilityResult chosenMLG = selectBestMLGType(applicabilityResults);
+        handleHighFrequencyTimer(player, velocity,
+                chosenMLG != null && chosenMLG.requiresHighFrequencyTimer());
+        probe.end(HotPathProbe.EVALUATION);
 
         if (chosenMLG != null) {
+            probe.begin(HotPathProbe.PLACEMENT);
             executeChosenMLG(client, player, chosenMLG, prediction);
+            probe.end(HotPathProbe.PLACEMENT);
         }
+
+        PlacementTracker.tick(client, player, prediction);
+        PreAimController.update(player, prediction);
+    }
+
+    /**
+     * Turn actions the safety evaluation asks for into one-shot scheduled steps
+     */
+    private static void scheduleLandingSteps(MLGPredictionResult prediction) {
+        SafeLandingBlockChecker.SafetyResult safety = prediction.getSafetyResult();
+        if (crouchStepScheduled || safety == null || !safety.needsCrouching()) {
+            return;
+        }
+
+        crouchStepScheduled = true;
+        ActionScheduler.sequence(CROUCH_ACTION).then((client, player) -> {
+            ScaffoldingCrouchManager.activateScaffoldingCrouch(player, client);
+            MLGMaster.LOGGER.info("Scaffolding requires crouching - activated crouch");
+            return true;
+        }).submit();
     }
 
     private static void updateLandingPrediction(MinecraftClient client, ClientPlayerEntity player,
@@ -163,27 +199,8 @@ public class MLGHandler {
 
 
 
-    private static List<MLGApplicabilityResult> evaluateMLGTypes(MinecraftClient client,
-            ClientPlayerEntity player, Vec3d velocity, MLGPredictionResult prediction) {
-        List<MLGApplicabilityResult> results = new ArrayList<>();
-
-        for (MLGType mlgType : mlgTypes) {
-            boolean applicable = mlgType.isApplicable(client, player, velocity, prediction);
-            int priority = mlgType.getPriority();
-
-            results.add(
-                    new MLGApplicabilityResult(mlgType, mlgType.getName(), applicable, priority));
-        }
-
-        return results;
-    }
-
-    private static void handleHighFrequencyTimer(MinecraftClient client, ClientPlayerEntity player,
-            Vec3d velocity, List<MLGApplicabilityResult> results) {
-
-        boolean shouldRunHighFreq = results.stream().anyMatch(
-                result -> result.isApplicable() && result.getType().requiresHighFrequencyTimer());
-
+    private static void handleHighFrequencyTimer(ClientPlayerEntity player, Vec3d velocity,
+            boolean shouldRunHighFreq) {
         if (shouldRunHighFreq && !highFreqTimerRunning) {
             MLGHighFrequencyTimer.startHighFrequencyUpdates();
             highFreqTimerRunning = true;
@@ -199,13 +216,8 @@ public class MLGHandler {
         }
     }
 
-    private static MLGApplicabilityResult selectBestMLGType(List<MLGApplicabilityResult> results) {
-        return results.stream().filter(MLGApplicabilityResult::isApplicable)
-                .max((r1, r2) -> Integer.compare(r1.getPriority(), r2.getPriority())).orElse(null);
-    }
-
     private static void executeChosenMLG(MinecraftClient client, ClientPlayerEntity player,
-            MLGApplicabilityResult chosenMLG, MLGPredictionResult prediction) {
+            MLGType mlgType, MLGPredictionResult prediction) {
         long currentTime = System.currentTimeMillis();
 
         if (currentTime - lastPredictionTime < getDynamicInterval(player.getVelocity().y)) {
@@ -214,18 +226,16 @@ public class MLGHandler {
 
         lastPredictionTime = currentTime;
 
-        MLGType mlgType = chosenMLG.getType();
-
         if (mlgType.canExecute(client, player, prediction)) {
             if (mlgType.execute(client, player, prediction)) {
                 mlgType.onSuccessfulPlacement(client, player, currentTime);
                 lastPredictionTime = currentTime + 40;
 
-                MLGMaster.LOGGER.info("MLG SUCCESS: {} executed successfully", chosenMLG.getName());
+                MLGMaster.LOGGER.info("MLG SUCCESS: {} executed successfully", mlgType.getName());
             }
         } else {
             MLGMaster.LOGGER.warn("MLG BLOCKED: {} cannot execute at this time",
-                    chosenMLG.getName());
+                    mlgType.getName());
         }
     }
 
@@ -234,21 +244,85 @@ public class MLGHandler {
         return absFallSpeed > 1.0 ? PREDICTION_INTERVAL / 2 : PREDICTION_INTERVAL;
     }
 
+    private static void enterCleanup() {
+        phase = FallPhase.LANDED_CLEANUP;
+        cleanupTicks = 0;
+        forceStopHighFrequencyTimer();
+    }
+
+    private static void tickCleanup(MinecraftClient client, ClientPlayerEntity player) {
+        handleCleanup(client, player);
+
+        if (!hasPendingPostLanding()) {
+            enterIdle(player);
+            return;
+        }
+
+        if (++cleanupTicks >= MAX_CLEANUP_TICKS) {
+            MLGMaster.LOGGER.warn("POST LANDING ABANDONED: Cleanup still pending after {} ticks",
+                    cleanupTicks);
+            for (MLGType mlgType : MLGRegistry.getTypeArray()) {
+                mlgType.reset();
+            }
+            enterIdle(player);
+        }
+    }
+
+    private static void enterIdle(ClientPlayerEntity player) {
+        phase = FallPhase.IDLE;
+        HotbarPreselector.restore(player);
+        PreAimController.restore(player);
+        // Once per fall that sent a clutch: running totals and how the planner ranked the types
+        if (PlacementTracker.getStatus() != PlacementTracker.Status.NONE) {
+            MLGMaster.LOGGER.info("MLG METRICS: {}", MLGMetrics.getSummary());
+            MLGMaster.LOGGER.info("MLG PLANNER:{}{}", System.lineSeparator(),
+                    MLGMetrics.getPlannerSummary());
+        }
+        PlacementTracker.reset();
+    }
+
+    private static boolean hasPendingPostLanding() {
+        for (MLGType mlgType : MLGRegistry.getTypeArray()) {
+            if (mlgType.hasPendingPostLanding()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static void handleCleanup(MinecraftClient client, ClientPlayerEntity player) {
         ScaffoldingCrouchManager.releaseScaffoldingCrouch();
+        crouchStepScheduled = false;
+        SafeLandingBlockChecker.clearCache();
+        PlacementReachability.clearCache();
+        FallPlan.clear();
+        EdgeLookahead.clear();
+        FallDamageEstimator.clearCache();
 
         // Clear landing prediction when landing/cleanup
         previousPredictedLandingBlock = predictedLandingBlock;
         predictedLandingBlock = null;
         predictedLandingPosition = null;
+        MLGRegistry.clearSelection();
 
-        for (MLGType mlgType : mlgTypes) {
+        for (MLGType mlgType : MLGRegistry.getTypeArray()) {
             mlgType.handlePostLanding(client, player);
         }
     }
 
     public static List<MLGType> getRegisteredTypes() {
-        return new ArrayList<>(mlgTypes);
+        return MLGRegistry.getTypes();
+    }
+
+    /**
+     * Install a probe around the hot path stages; pass {@link HotPathProbe#NONE} to remove it
+     */
+    public static void setHotPathProbe(HotPathProbe probe) {
+        hotPathProbe = probe;
+    }
+
+    public static FallPhase getFallPhase() {
+        return phase;
     }
 
     public static boolean isHighFrequencyTimerRunning() {
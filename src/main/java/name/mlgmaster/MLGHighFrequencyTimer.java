@@ -29,6 +29,7 @@ public class MLGHighFrequencyTimer {
             MinecraftClient client = MinecraftClient.getInstance();
             if (client != null) {
                 client.execute(() -> {
+                    ActionScheduler.pump(client);
                     if (client.player != null && client.world != null) {
                         MLGHandler.onHighFrequencyTick();
                     }
@@ -3,6 +3,7 @@ package name.mlgmaster;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,15 +14,26 @@ public class MLGMaster implements ModInitializer {
 
 	@Override
 	public void onInitialize() {
+		MLGConfig.load();
+		MLGRegistry.initialize();
+		LandingSafetyTables.registerReloadListener();
 
+		// Landing definitions can match by tag, so recompile whenever tags change
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+			LandingSafetyTables.rebuild();
+		});
 
 		ClientTickEvents.END_CLIENT_TICK.register(client -> {
+			ActionScheduler.onClientTick(client);
+			PendingPlacements.tick();
 			if (client != null && client.player != null && client.world != null) {
 				MLGHandler.onHighFrequencyTick();
 			}
 		});
 		
 		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+			ActionScheduler.cancelAll(client);
+			PendingPlacements.clear();
 			ScaffoldingCrouchManager.forceReleaseCrouch();
 		});
 
@@ -0,0 +1,199 @@
+package name.mlgmaster;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import name.mlgmaster.core.ClutchCostModel;
+
+/**
+ * Running counters for placement attempts and their attempt-to-confirmation latency, plus
+ * per-type outcomes that feed the {@link ClutchPlanner}'s acceptance estimates
+ */
+public class MLGMetrics {
+    private static final Object2ObjectOpenHashMap<String, TypeOutcomes> typeOutcomes =
+            new Object2ObjectOpenHashMap<>();
+
+    private static long attempts = 0;
+    private static long confirmed = 0;
+    private static long rejected = 0;
+    private static long timedOut = 0;
+    private static long retries = 0;
+
+    private static long latencySamples = 0;
+    private static long latencyTotalNanos = 0;
+    private static long latencyMaxNanos = 0;
+    private static long lastLatencyNanos = -1;
+
+    /**
+     * Outcome counters for one MLG type, keyed by name so they survive re-registration
+     */
+    public static class TypeOutcomes {
+        private long attempts = 0;
+        private long confirmed = 0;
+        private long failed = 0;
+        private long chosen = 0;
+
+        public long getAttempts() {
+            return attempts;
+        }
+
+        public long getConfirmed() {
+            return confirmed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Times the planner switched to this type
+         */
+        public long getChosen() {
+            return chosen;
+        }
+
+        /**
+         * Smoothed server acceptance rate; attempts still awaiting an outcome are left out
+         */
+        public double getAcceptanceProbability() {
+            return ClutchCostModel.acceptanceProbability(confirmed + failed, confirmed);
+        }
+
+        private void clear() {
+            attempts = 0;
+            confirmed = 0;
+            failed = 0;
+            chosen = 0;
+        }
+    }
+
+    /**
+     * Counters for the type, created on first use; callers may keep the returned instance
+     */
+    public static TypeOutcomes getTypeOutcomes(MLGType type) {
+        return typeOutcomes.computeIfAbsent(type.getName(), name -> new TypeOutcomes());
+    }
+
+    public static void recordTypeAttempt(MLGType type) {
+        if (type != null) {
+            getTypeOutcomes(type).attempts++;
+        }
+    }
+
+    public static void recordTypeOutcome(MLGType type, boolean accepted) {
+        if (type == null) {
+            return;
+        }
+        TypeOutcomes outcomes = getTypeOutcomes(type);
+        if (accepted) {
+            outcomes.confirmed++;
+        } else {
+            outcomes.failed++;
+        }
+    }
+
+    public static void recordPlanChoice(MLGType type) {
+        if (type != null) {
+            getTypeOutcomes(type).chosen++;
+        }
+    }
+
+    public static void recordAttempt() {
+        attempts++;
+    }
+
+    public static void recordRetry() {
+        retries++;
+    }
+
+    public static void recordConfirmed(long latencyNanos) {
+        confirmed++;
+        latencySamples++;
+        latencyTotalNanos += latencyNanos;
+        latencyMaxNanos = Math.max(latencyMaxNanos, latencyNanos);
+        lastLatencyNanos = latencyNanos;
+    }
+
+    public static void recordRejected() {
+        rejected++;
+    }
+
+    public static void recordTimedOut() {
+        timedOut++;
+    }
+
+    public static void reset() {
+        attempts = 0;
+        confirmed = 0;
+        rejected = 0;
+        timedOut = 0;
+        retries = 0;
+        latencySamples = 0;
+        latencyTotalNanos = 0;
+        latencyMaxNanos = 0;
+        lastLatencyNanos = -1;
+        // Cleared in place; the planner holds on to these instances
+        for (TypeOutcomes outcomes : typeOutcomes.values()) {
+            outcomes.clear();
+        }
+    }
+
+    public static long getAttempts() {
+        return attempts;
+    }
+
+    public static long getConfirmed() {
+        return confirmed;
+    }
+
+    public static long getRejected() {
+        return rejected;
+    }
+
+    public static long getTimedOut() {
+        return timedOut;
+    }
+
+    public static long getRetries() {
+        return retries;
+    }
+
+    public static double getAverageConfirmationMillis() {
+        if (latencySamples == 0) {
+            return 0.0;
+        }
+        return latencyTotalNanos / (double) latencySamples / 1_000_000.0;
+    }
+
+    public static double getMaxConfirmationMillis() {
+        return latencyMaxNanos / 1_000_000.0;
+    }
+
+    /**
+     * Latency of the most recent confirmation in milliseconds, or -1 if none yet
+     */
+    public static double getLastConfirmationMillis() {
+        return lastLatencyNanos < 0 ? -1.0 : lastLatencyNanos / 1_000_000.0;
+    }
+
+    public static String getSummary() {
+        return String.format(
+                "attempts=%d confirmed=%d rejected=%d timedOut=%d retries=%d "
+                        + "confirmLatency avg=%.1fms max=%.1fms",
+                attempts, confirmed, rejected, timedOut, retries, getAverageConfirmationMillis(),
+                getMaxConfirmationMillis());
+    }
+
+    /**
+     * Per-type outcomes and the planner's scores from its most recent pass
+     */
+    public static String getPlannerSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (var entry : typeOutcomes.object2ObjectEntrySet()) {
+            TypeOutcomes outcomes = entry.getValue();
+            summary.append(String.format("%s: attempts=%d confirmed=%d failed=%d chosen=%d "
+                    + "acceptance=%.2f%n", entry.getKey(), outcomes.attempts, outcomes.confirmed,
+                    outcomes.failed, outcomes.chosen, outcomes.getAcceptanceProbability()));
+        }
+        summary.append(ClutchPlanner.describeLastPlan());
+        return summary.toString();
+    }
+}
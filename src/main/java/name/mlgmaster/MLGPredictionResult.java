@@ -1,5 +1,6 @@
 package name.mlgmaster;
 
+import name.mlgmaster.core.Trajectory;
 import net.minecraft.item.Item;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -11,10 +12,14 @@ public class MLGPredictionResult {
     private final BlockPos highestLandingBlock;
     private final Vec3d placementTarget;
     private final double distanceToTarget;
-    private final String reason;
+    private String reason;
+    private final String reasonFormat;
+    private final double reasonValue;
     private final SafeLandingBlockChecker.SafetyResult safetyResult;
     private final double placementDistance;
     private final Item targetItem;
+    private final int ticksToImpact;
+    private final int trajectoryTick;
     
     public MLGPredictionResult(boolean shouldPlace, boolean willLand, 
                               HitboxLandingResult landingResult,
@@ -22,6 +27,40 @@ public class MLGPredictionResult {
                               double distanceToTarget, String reason,
                               SafeLandingBlockChecker.SafetyResult safetyResult,
                               double placementDistance, Item targetItem) {
+        this(shouldPlace, willLand, landingResult, highestLandingBlock, placementTarget,
+                distanceToTarget, reason, safetyResult, placementDistance, targetItem, -1);
+    }
+
+    public MLGPredictionResult(boolean shouldPlace, boolean willLand, 
+                              HitboxLandingResult landingResult,
+                              BlockPos highestLandingBlock, Vec3d placementTarget,
+                              double distanceToTarget, String reason,
+                              SafeLandingBlockChecker.SafetyResult safetyResult,
+                              double placementDistance, Item targetItem, int ticksToImpact) {
+        this(shouldPlace, willLand, landingResult, highestLandingBlock, placementTarget,
+                distanceToTarget, reason, safetyResult, placementDistance, targetItem,
+                ticksToImpact, 0);
+    }
+
+    public MLGPredictionResult(boolean shouldPlace, boolean willLand, 
+                              HitboxLandingResult landingResult,
+                              BlockPos highestLandingBlock, Vec3d placementTarget,
+                              double distanceToTarget, String reason,
+                              SafeLandingBlockChecker.SafetyResult safetyResult,
+                              double placementDistance, Item targetItem, int ticksToImpact,
+                              int trajectoryTick) {
+        this(shouldPlace, willLand, landingResult, highestLandingBlock, placementTarget,
+                distanceToTarget, reason, null, 0.0, safetyResult, placementDistance,
+                targetItem, ticksToImpact, trajectoryTick);
+    }
+
+    private MLGPredictionResult(boolean shouldPlace, boolean willLand,
+                              HitboxLandingResult landingResult,
+                              BlockPos highestLandingBlock, Vec3d placementTarget,
+                              double distanceToTarget, String reason, String reasonFormat,
+                              double reasonValue, SafeLandingBlockChecker.SafetyResult safetyResult,
+                              double placementDistance, Item targetItem, int ticksToImpact,
+                              int trajectoryTick) {
         this.shouldPlace = shouldPlace;
         this.willLand = willLand;
         this.landingResult = landingResult;
@@ -29,9 +68,13 @@ public class MLGPredictionResult {
         this.placementTarget = placementTarget;
         this.distanceToTarget = distanceToTarget;
         this.reason = reason;
+        this.reasonFormat = reasonFormat;
+        this.reasonValue = reasonValue;
         this.safetyResult = safetyResult;
         this.placementDistance = placementDistance;
         this.targetItem = targetItem;
+        this.ticksToImpact = ticksToImpact;
+        this.trajectoryTick = trajectoryTick;
     }
     
     public boolean shouldPlace() { return shouldPlace; }
@@ -40,15 +83,45 @@ public class MLGPredictionResult {
     public BlockPos getHighestLandingBlock() { return highestLandingBlock; }
     public Vec3d getPlacementTarget() { return placementTarget; }
     public double getDistanceToTarget() { return distanceToTarget; }
-    public String getReason() { return reason; }
+    /** The reason is only formatted if someone reads it */
+    public String getReason() {
+        if (reason == null && reasonFormat != null) {
+            reason = String.format(reasonFormat, reasonValue);
+        }
+        return reason;
+    }
     public SafeLandingBlockChecker.SafetyResult getSafetyResult() { return safetyResult; }
     public double getPlacementDistance() { return placementDistance; }
     public boolean isWithinPlacementDistance() { return distanceToTarget <= placementDistance && distanceToTarget > 0; }
     public Item getTargetItem() { return targetItem; }
+    /** Ticks until the predicted impact, or -1 when no timing was calculated */
+    public int getTicksToImpact() { return ticksToImpact; }
+    /** Index into {@link #getTrajectory()} of the current tick; non-zero for a planned fall */
+    public int getTrajectoryTick() { return trajectoryTick; }
+    /** Simulated path shared by every MLG type this tick, or null without a landing */
+    public Trajectory getTrajectory() {
+        return landingResult != null
+                ? landingResult.getPhysicsSimulation().getCoreResult().getTrajectory()
+                : null;
+    }
     
+    /**
+     * Result for a tick of a planned fall, with a reason formatted from reasonFormat and one
+     * value only when read
+     */
+    static MLGPredictionResult withLazyReason(boolean shouldPlace, boolean willLand,
+            HitboxLandingResult landingResult, BlockPos highestLandingBlock,
+            Vec3d placementTarget, double distanceToTarget, String reasonFormat,
+            double reasonValue, SafeLandingBlockChecker.SafetyResult safetyResult,
+            double placementDistance, Item targetItem, int ticksToImpact, int trajectoryTick) {
+        return new MLGPredictionResult(shouldPlace, willLand, landingResult, highestLandingBlock,
+                placementTarget, distanceToTarget, null, reasonFormat, reasonValue, safetyResult,
+                placementDistance, targetItem, ticksToImpact, trajectoryTick);
+    }
+
     @Override
     public String toString() {
         return String.format("MLGResult[shouldPlace=%s, willLand=%s, target=%s, distance=%.1f, reason='%s']",
-            shouldPlace, willLand, highestLandingBlock, distanceToTarget, reason);
+            shouldPlace, willLand, highestLandingBlock, distanceToTarget, getReason());
     }
 }
@@ -0,0 +1,123 @@
+package name.mlgmaster;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import name.mlgmaster.MLGTypes.BlockMLG;
+import name.mlgmaster.MLGTypes.BoatMLG;
+import name.mlgmaster.MLGTypes.ClimbableMLG;
+import name.mlgmaster.MLGTypes.CobwebMLG;
+import name.mlgmaster.MLGTypes.HayMLG;
+import name.mlgmaster.MLGTypes.PowderSnowMLG;
+import name.mlgmaster.MLGTypes.SlimeMLG;
+import name.mlgmaster.MLGTypes.WaterMLG;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.entrypoint.EntrypointContainer;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Registered MLG types, kept sorted by descending priority so the tick handler can rank them in
+ * one pass without building per-tick lists
+ */
+public class MLGRegistry {
+    public static final String ENTRYPOINT = "mlgmaster";
+
+    private static final Comparator<MLGType> BY_PRIORITY =
+            Comparator.comparingInt(MLGType::getPriority).reversed();
+
+    private static MLGType[] types = new MLGType[0];
+    private static List<MLGType> typesView = Collections.emptyList();
+    private static MLGType selectedType = null;
+    private static boolean initialized = false;
+
+    /**
+     * Register the built-in types followed by every {@link MLGTypeProvider} entrypoint
+     */
+    public static void initialize() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+
+        register(new WaterMLG());
+        register(new BlockMLG());
+        register(new PowderSnowMLG());
+        register(new SlimeMLG());
+        register(new CobwebMLG());
+        register(new BoatMLG());
+        register(new HayMLG());
+        register(new ClimbableMLG());
+
+        for (EntrypointContainer<MLGTypeProvider> container : FabricLoader.getInstance()
+                .getEntrypointContainers(ENTRYPOINT, MLGTypeProvider.class)) {
+            String modId = container.getProvider().getMetadata().getId();
+            try {
+                for (MLGType type : container.getEntrypoint().createMLGTypes()) {
+                    register(type);
+                    MLGMaster.LOGGER.info("Registered MLG type {} from {}", type.getName(), modId);
+                }
+            } catch (Exception e) {
+                MLGMaster.LOGGER.error("Failed to load MLG types from {}: {}", modId,
+                        e.getMessage());
+            }
+        }
+
+        MLGMaster.LOGGER.info("MLG registry ready with {} types", types.length);
+    }
+
+    /**
+     * Add a type and re-sort the dispatch table; registration is rare so the copy is fine
+     */
+    public static void register(MLGType type) {
+        MLGType[] updated = Arrays.copyOf(types, types.length + 1);
+        updated[types.length] = type;
+        // Stable sort keeps registration order between equal priorities
+        Arrays.sort(updated, BY_PRIORITY);
+
+        types = updated;
+        typesView = Collections.unmodifiableList(Arrays.asList(updated));
+
+        type.setClutchMask(HotbarIndex.registerClutchItems(type.getClutchItems()));
+    }
+
+    /**
+     * Let the {@link ClutchPlanner} rank every type and publish its choice, or null if none can
+     * work
+     */
+    public static MLGType select(MinecraftClient client, ClientPlayerEntity player, Vec3d velocity,
+            MLGPredictionResult prediction) {
+        MLGType best = ClutchPlanner.plan(client, player, velocity, prediction, types);
+
+        if (best != selectedType && best != null) {
+            MLGMaster.LOGGER.info("MLG SELECTED: {} with expected margin {}", best.getName(),
+                    ClutchPlanner.getBestScore());
+        }
+        selectedType = best;
+        return best;
+    }
+
+    /**
+     * The type chosen by the most recent {@link #select} call
+     */
+    public static MLGType getSelectedType() {
+        return selectedType;
+    }
+
+    public static void clearSelection() {
+        selectedType = null;
+    }
+
+    /**
+     * Read-only view in priority order
+     */
+    public static List<MLGType> getTypes() {
+        return typesView;
+    }
+
+    static MLGType[] getTypeArray() {
+        return types;
+    }
+}
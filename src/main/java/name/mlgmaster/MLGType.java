@@ -1,10 +1,19 @@
 package name.mlgmaster;
 
+import name.mlgmaster.core.FallDamageModel;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 
 public abstract class MLGType {
+    private static final Item[] NO_CLUTCH_ITEMS = new Item[0];
+    // Fall distance at which clutch types start to consider a fall
+    protected static final double FALL_TRIGGER_DISTANCE = 4.5;
+
+    // Bits of this type's clutch items in the hotbar index, assigned at registration
+    private int clutchMask = 0;
 
     /**
      * Checks if this MLG type is applicable for the current situation
@@ -37,6 +46,13 @@ public abstract class MLGType {
      */
     public abstract void handlePostLanding(MinecraftClient client, ClientPlayerEntity player);
 
+    /**
+     * Whether {@link #handlePostLanding} still has work to do; keeps the handler out of idle
+     */
+    public boolean hasPendingPostLanding() {
+        return false;
+    }
+
     /**
      * Resets the MLG type state
      */
@@ -51,4 +67,96 @@ public abstract class MLGType {
      * Gets the name of this MLG type
      */
     public abstract String getName();
+
+    /**
+     * Health the player is expected to keep above the survivability threshold if this clutch
+     * works, or {@link Double#NEGATIVE_INFINITY} if it cannot work for this fall. The
+     * {@link ClutchPlanner} weighs it by the chance the clutch works. The default assumes the
+     * clutch cancels all fall damage.
+     */
+    public double estimateSuccessMargin(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction) {
+        return marginAfterDamage(player, 0.0f);
+    }
+
+    /**
+     * Ticks the clutch needs between sending the placement and the impact
+     */
+    public int getRequiredLeadTicks() {
+        return 0;
+    }
+
+    /**
+     * Point the placement aims at, used by the planner for rotation and reach estimates
+     */
+    public Vec3d getPlanTarget(MLGPredictionResult prediction) {
+        return prediction.getPlacementTarget();
+    }
+
+    /**
+     * Item this type would place for the prediction, used to tell whether a slot switch is needed
+     */
+    public Item getPlannedItem(MLGPredictionResult prediction) {
+        return prediction.getTargetItem();
+    }
+
+    /**
+     * Health left above the survivability threshold after taking the given damage
+     */
+    protected static double marginAfterDamage(ClientPlayerEntity player, float damage) {
+        return FallDamageModel.remainingHealth(damage, player.getHealth(),
+                player.getAbsorptionAmount()) - MLGConfig.get().getSurvivabilityThreshold();
+    }
+
+    /**
+     * Whether the fall has gone {@link #FALL_TRIGGER_DISTANCE} blocks, or {@link EdgeLookahead}
+     * already saw the drop coming before the player left the ground
+     */
+    protected static boolean hasFallenEnough(ClientPlayerEntity player) {
+        return player.fallDistance >= FALL_TRIGGER_DISTANCE || EdgeLookahead.isExpectingDrop();
+    }
+
+    /**
+     * Whether the predicted landing leaves the player above the configured survivability threshold
+     */
+    protected static boolean isSurvivableLanding(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction) {
+        // Already safe, for instance a clutch block placed earlier this fall
+        if (prediction.getSafetyResult() != null && prediction.getSafetyResult().isSafe()) {
+            return true;
+        }
+
+        BlockPos landingBlock = prediction.getHighestLandingBlock();
+        if (landingBlock == null || client.world == null) {
+            return false;
+        }
+
+        double fallDistance = FallDamageModel.effectiveFallDistance(player.fallDistance,
+                player.getY() - (landingBlock.getY() + 1), player.getVelocity().y);
+        return FallDamageEstimator.isSurvivable(player, fallDistance,
+                PendingPlacements.getBlockState(client.world, landingBlock));
+    }
+
+    /**
+     * Items this MLG type places, indexed by {@link HotbarIndex} for fast availability checks
+     */
+    public Item[] getClutchItems() {
+        return NO_CLUTCH_ITEMS;
+    }
+
+    void setClutchMask(int clutchMask) {
+        this.clutchMask = clutchMask;
+    }
+
+    protected int getClutchMask() {
+        return clutchMask;
+    }
+
+    /**
+     * O(1) pre-check: whether any clutch item of this type (or of a type sharing its bits) is in
+     * the hotbar or off hand
+     */
+    protected boolean hasClutchItem(ClientPlayerEntity player) {
+        return (HotbarIndex.getClutchMask(player.getInventory()) & clutchMask) != 0;
+    }
 }
@@ -0,0 +1,14 @@
+package name.mlgmaster;
+
+import java.util.Collection;
+
+/**
+ * Fabric entrypoint ({@code "mlgmaster"} in fabric.mod.json) for mods that add their own MLG types
+ */
+public interface MLGTypeProvider {
+
+    /**
+     * Create the MLG types to register; called once during mod initialization
+     */
+    Collection<MLGType> createMLGTypes();
+}
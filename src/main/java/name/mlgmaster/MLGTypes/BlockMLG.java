@@ -1,55 +1,101 @@
 package name.mlgmaster.MLGTypes;
 
 import name.mlgmaster.BlockPlacer;
+import name.mlgmaster.FallDamageEstimator;
+import name.mlgmaster.HotbarIndex;
 import name.mlgmaster.InventoryManager;
+import name.mlgmaster.LandingSafetyTables;
 import name.mlgmaster.MLGPredictionResult;
 import name.mlgmaster.MLGType;
+import name.mlgmaster.MinecraftPhysics;
+import name.mlgmaster.core.LandingSafetyTable;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
 import net.minecraft.item.Items;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 
+/**
+ * Clutches by placing a block on top of the landing surface. Any hotbar block whose placed state
+ * the landing definitions mark as a clutch is a candidate; the one leaving the most health wins,
+ * and that margin is what the planner weighs against water.
+ */
 public class BlockMLG extends MLGType {
+    // Vanilla clutch blocks without a dedicated type; data-defined ones are picked up from the
+    // hotbar once a fall is armed
+    private static final Item[] CLUTCH_ITEMS = { Items.HONEY_BLOCK, Items.TWISTING_VINES };
+
+    private Item selectedItem = null;
+    private double selectedMargin = Double.NEGATIVE_INFINITY;
+    private Vec3d lastVelocity = new Vec3d(0, 0, 0);
+    private final BlockPos.Mutable placementPos = new BlockPos.Mutable();
 
     @Override
     public boolean isApplicable(MinecraftClient client, ClientPlayerEntity player, Vec3d velocity, MLGPredictionResult prediction) {
-        // TODO: Implement proper fall detection logic for block MLG
-        // For now, return basic applicability check
-        return false;
+        if (velocity.y >= -0.1 || player.isOnGround()) {
+            return false;
+        }
+
+        if (!hasFallenEnough(player)) {
+            return false;
+        }
+
+        if (prediction.getHighestLandingBlock() == null
+                || isSurvivableLanding(client, player, prediction)) {
+            return false;
+        }
+
+        lastVelocity = velocity;
+        selectBestItem(client, player, prediction.getHighestLandingBlock());
+        return selectedItem != null;
+    }
+
+    @Override
+    public double estimateSuccessMargin(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction) {
+        return selectedMargin;
     }
 
     @Override
     public boolean requiresHighFrequencyTimer() {
-        // TODO: Determine if block MLG needs high frequency timer
-        return false; // Placeholder - blocks might not need as precise timing as water
+        return MinecraftPhysics.isNearTerminalVelocity(lastVelocity.y);
     }
 
     @Override
     public boolean canExecute(MinecraftClient client, ClientPlayerEntity player, MLGPredictionResult prediction) {
-        return InventoryManager.hasItem(player, prediction.getTargetItem());
+        return selectedItem != null && InventoryManager.hasItem(player, selectedItem);
     }
 
     @Override
     public boolean execute(MinecraftClient client, ClientPlayerEntity player, MLGPredictionResult prediction) {
-        return BlockPlacer.executeBlockPlacement(client, player, prediction);
+        if (!prediction.shouldPlace()) {
+            return false;
+        }
+        return BlockPlacer.executeBlockClutch(client, player, prediction.getHighestLandingBlock(),
+                selectedItem);
     }
 
     @Override
     public void onSuccessfulPlacement(MinecraftClient client, ClientPlayerEntity player, long currentTime) {
-        // TODO: Implement block placement success handling
-        // Placeholder - no special handling needed for basic blocks
+        // Placed blocks stay; nothing to follow up on
     }
 
     @Override
     public void handlePostLanding(MinecraftClient client, ClientPlayerEntity player) {
-        // TODO: Implement post-landing cleanup for blocks
-        // Placeholder - blocks might not need cleanup like water does
+        selectedItem = null;
+        selectedMargin = Double.NEGATIVE_INFINITY;
     }
 
     @Override
     public void reset() {
-        // TODO: Implement state reset for block MLG
-        // Placeholder - no state to reset for basic block MLG currently
+        selectedItem = null;
+        selectedMargin = Double.NEGATIVE_INFINITY;
     }
 
     @Override
@@ -61,4 +107,68 @@ public class BlockMLG extends MLGType {
     public String getName() {
         return "Block MLG";
     }
+
+    @Override
+    public Item[] getClutchItems() {
+        return CLUTCH_ITEMS;
+    }
+
+    @Override
+    public Item getPlannedItem(MLGPredictionResult prediction) {
+        return selectedItem;
+    }
+
+    public Item getSelectedItem() {
+        return selectedItem;
+    }
+
+    /**
+     * Score every clutch block in the hotbar and off hand by the health it leaves, standing on
+     * top of it one block higher than the current landing surface
+     */
+    private void selectBestItem(MinecraftClient client, ClientPlayerEntity player,
+            BlockPos landingBlock) {
+        selectedItem = null;
+        selectedMargin = Double.NEGATIVE_INFINITY;
+
+        placementPos.set(landingBlock, Direction.UP);
+        double fallDistance = player.fallDistance + (player.getY() - (placementPos.getY() + 1));
+        LandingSafetyTable table = LandingSafetyTables.get();
+        PlayerInventory inventory = player.getInventory();
+
+        for (int slot = 0; slot <= HotbarIndex.HOTBAR_SIZE; slot++) {
+            if (!(HotbarIndex.getIndexedItem(inventory, slot) instanceof BlockItem blockItem)
+                    || blockItem == selectedItem) {
+                continue;
+            }
+            // Slime, hay, cobweb and the like are timed by their own types
+            int clutchBit = HotbarIndex.getClutchBit(blockItem);
+            if (clutchBit != 0 && (clutchBit & getClutchMask()) == 0) {
+                continue;
+            }
+
+            BlockState placed = blockItem.getBlock().getDefaultState();
+            int stateId = Block.getRawIdFromState(placed);
+            if (!table.isClutch(stateId) || !placed.canPlaceAt(client.world, placementPos)) {
+                continue;
+            }
+
+            byte landingClass = table.classify(stateId);
+            float damage;
+            if (landingClass == LandingSafetyTable.SAFE) {
+                damage = 0.0f;
+            } else if (landingClass == LandingSafetyTable.UNSAFE) {
+                damage = FallDamageEstimator.estimateDamage(player, fallDistance, placed);
+            } else {
+                // Crouch and below-check blocks need more than a placement to work
+                continue;
+            }
+
+            double margin = marginAfterDamage(player, damage);
+            if (margin > selectedMargin) {
+                selectedItem = blockItem;
+                selectedMargin = margin;
+            }
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package name.mlgmaster.MLGTypes;
+
+import name.mlgmaster.BlockPlacer;
+import name.mlgmaster.MLGPredictionResult;
+import name.mlgmaster.PendingPlacements;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.BoatItem;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Boat dropped onto the landing surface; landing in it cancels fall damage. Boats are entities,
+ * so they are used on the top face of the landing block instead of being placed as a block, and
+ * the spawn needs a tick to reach the client before the player arrives.
+ */
+public class BoatMLG extends TimedClutchMLG {
+    private final Item[] clutchItems = Registries.ITEM.stream()
+            .filter(item -> item instanceof BoatItem)
+            .toArray(Item[]::new);
+
+    // Top face center of the last landing block, rebuilt only when the landing moves
+    private BlockPos targetBlock = null;
+    private Vec3d target = null;
+
+    @Override
+    public int getRequiredLeadTicks() {
+        return 1;
+    }
+
+    @Override
+    public Vec3d getPlanTarget(MLGPredictionResult prediction) {
+        BlockPos landingBlock = prediction.getHighestLandingBlock();
+        if (landingBlock == null) {
+            return null;
+        }
+        if (!landingBlock.equals(targetBlock)) {
+            targetBlock = landingBlock.toImmutable();
+            target = new Vec3d(landingBlock.getX() + 0.5, landingBlock.getY() + 1.0,
+                    landingBlock.getZ() + 0.5);
+        }
+        return target;
+    }
+
+    @Override
+    protected boolean canUseAt(MinecraftClient client, BlockPos landingBlock,
+            BlockPos placementPos, Item item) {
+        return PendingPlacements.getBlockState(client.world, placementPos).isAir()
+                && PendingPlacements.getBlockState(client.world, landingBlock)
+                        .isSideSolidFullSquare(client.world, landingBlock, Direction.UP);
+    }
+
+    @Override
+    protected float landingDamage(ClientPlayerEntity player, double fallDistance, Item item) {
+        return 0.0f;
+    }
+
+    @Override
+    protected boolean place(MinecraftClient client, ClientPlayerEntity player,
+            BlockPos landingBlock, Item item, MLGPredictionResult prediction) {
+        return BlockPlacer.executeItemClutch(client, player, landingBlock, item,
+                getPlanTarget(prediction));
+    }
+
+    @Override
+    public int getPriority() {
+        return 6;
+    }
+
+    @Override
+    public String getName() {
+        return "Boat MLG";
+    }
+
+    @Override
+    public Item[] getClutchItems() {
+        return clutchItems;
+    }
+}
@@ -0,0 +1,52 @@
+package name.mlgmaster.MLGTypes;
+
+import name.mlgmaster.PendingPlacements;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+/**
+ * Ladder or vine in the landing cell; climbable blocks reset fall distance on contact. Both need
+ * a solid wall beside the cell, which the placement itself picks when clicking the top face.
+ */
+public class ClimbableMLG extends TimedClutchMLG {
+    private static final Item[] CLUTCH_ITEMS = { Items.LADDER, Items.VINE };
+
+    private final BlockPos.Mutable neighbor = new BlockPos.Mutable();
+
+    @Override
+    protected boolean canUseAt(MinecraftClient client, BlockPos landingBlock,
+            BlockPos placementPos, Item item) {
+        if (!PendingPlacements.getBlockState(client.world, placementPos).isReplaceable()) {
+            return false;
+        }
+
+        for (Direction direction : Direction.Type.HORIZONTAL) {
+            neighbor.set(placementPos, direction);
+            BlockState neighborState = PendingPlacements.getBlockState(client.world, neighbor);
+            if (neighborState.isSideSolidFullSquare(client.world, neighbor,
+                    direction.getOpposite())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getPriority() {
+        return 3;
+    }
+
+    @Override
+    public String getName() {
+        return "Climbable MLG";
+    }
+
+    @Override
+    public Item[] getClutchItems() {
+        return CLUTCH_ITEMS;
+    }
+}
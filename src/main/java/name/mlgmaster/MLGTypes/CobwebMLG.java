@@ -0,0 +1,26 @@
+package name.mlgmaster.MLGTypes;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+
+/**
+ * Cobweb in the landing cell; entering it resets fall distance before the player touches down
+ */
+public class CobwebMLG extends TimedClutchMLG {
+    private static final Item[] CLUTCH_ITEMS = { Items.COBWEB };
+
+    @Override
+    public int getPriority() {
+        return 7;
+    }
+
+    @Override
+    public String getName() {
+        return "Cobweb MLG";
+    }
+
+    @Override
+    public Item[] getClutchItems() {
+        return CLUTCH_ITEMS;
+    }
+}
@@ -0,0 +1,27 @@
+package name.mlgmaster.MLGTypes;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+
+/**
+ * Hay bale on the landing surface; only cuts damage to a fifth, so the planner prefers it only
+ * when nothing that cancels damage is available
+ */
+public class HayMLG extends TimedClutchMLG {
+    private static final Item[] CLUTCH_ITEMS = { Items.HAY_BLOCK };
+
+    @Override
+    public int getPriority() {
+        return 4;
+    }
+
+    @Override
+    public String getName() {
+        return "Hay MLG";
+    }
+
+    @Override
+    public Item[] getClutchItems() {
+        return CLUTCH_ITEMS;
+    }
+}
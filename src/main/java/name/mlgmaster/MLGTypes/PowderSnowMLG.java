@@ -0,0 +1,27 @@
+package name.mlgmaster.MLGTypes;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+
+/**
+ * Powder snow poured into the landing cell; the player sinks into it and takes no fall damage.
+ * The bucket places a block, so it goes through the regular block placement path.
+ */
+public class PowderSnowMLG extends TimedClutchMLG {
+    private static final Item[] CLUTCH_ITEMS = { Items.POWDER_SNOW_BUCKET };
+
+    @Override
+    public int getPriority() {
+        return 9;
+    }
+
+    @Override
+    public String getName() {
+        return "Powder Snow MLG";
+    }
+
+    @Override
+    public Item[] getClutchItems() {
+        return CLUTCH_ITEMS;
+    }
+}
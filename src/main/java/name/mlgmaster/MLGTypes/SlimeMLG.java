@@ -0,0 +1,27 @@
+package name.mlgmaster.MLGTypes;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+
+/**
+ * Slime block on the landing surface; bouncing off it cancels fall damage and works in any
+ * dimension
+ */
+public class SlimeMLG extends TimedClutchMLG {
+    private static final Item[] CLUTCH_ITEMS = { Items.SLIME_BLOCK };
+
+    @Override
+    public int getPriority() {
+        return 8;
+    }
+
+    @Override
+    public String getName() {
+        return "Slime MLG";
+    }
+
+    @Override
+    public Item[] getClutchItems() {
+        return CLUTCH_ITEMS;
+    }
+}
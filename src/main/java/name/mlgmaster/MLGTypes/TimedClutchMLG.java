@@ -0,0 +1,194 @@
+package name.mlgmaster.MLGTypes;
+
+import name.mlgmaster.BlockPlacer;
+import name.mlgmaster.FallDamageEstimator;
+import name.mlgmaster.HotbarIndex;
+import name.mlgmaster.InventoryManager;
+import name.mlgmaster.LandingSafetyTables;
+import name.mlgmaster.MLGPredictionResult;
+import name.mlgmaster.MLGType;
+import name.mlgmaster.MinecraftPhysics;
+import name.mlgmaster.PendingPlacements;
+import name.mlgmaster.core.ClutchWindow;
+import name.mlgmaster.core.LandingSafetyTable;
+import name.mlgmaster.core.Trajectory;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Base for clutches that put something into the cell above the landing block. Applicability
+ * starts with an O(1) hotbar index check; the placement window is read off the trajectory the
+ * prediction already simulated, and the clutch fires as soon as that window opens rather than at
+ * the last tick.
+ */
+public abstract class TimedClutchMLG extends MLGType {
+
+    private final ClutchWindow window = new ClutchWindow();
+    private final BlockPos.Mutable placementCell = new BlockPos.Mutable();
+    private Item plannedItem = null;
+    private boolean placedThisFall = false;
+    private Vec3d lastVelocity = new Vec3d(0, 0, 0);
+
+    @Override
+    public boolean isApplicable(MinecraftClient client, ClientPlayerEntity player, Vec3d velocity, MLGPredictionResult prediction) {
+        if (!hasClutchItem(player)) {
+            return false;
+        }
+
+        if (velocity.y >= -0.1 || player.isOnGround()) {
+            return false;
+        }
+
+        if (!hasFallenEnough(player)) {
+            return false;
+        }
+
+        BlockPos landingBlock = prediction.getHighestLandingBlock();
+        Trajectory trajectory = prediction.getTrajectory();
+        if (landingBlock == null || trajectory == null || client.world == null) {
+            return false;
+        }
+
+        // Keep the selection stable once placed; execute() will not place twice
+        if (placedThisFall) {
+            return true;
+        }
+
+        if (isSurvivableLanding(client, player, prediction)) {
+            return false;
+        }
+
+        plannedItem = findItem(player.getInventory());
+        if (plannedItem == null || !canUseAt(client, landingBlock,
+                placementCell.set(landingBlock, Direction.UP), plannedItem)) {
+            return false;
+        }
+
+        Vec3d target = getPlanTarget(prediction);
+        if (target == null) {
+            return false;
+        }
+
+        // Window ticks index the trajectory, which may have started before this tick
+        int ticksToImpact = prediction.getTicksToImpact();
+        int impactTick = ticksToImpact >= 0
+                ? ticksToImpact + prediction.getTrajectoryTick()
+                : ticksToImpact;
+        lastVelocity = velocity;
+        window.compute(trajectory, impactTick, player.getStandingEyeHeight(),
+                target.x, target.y, target.z, player.getBlockInteractionRange(),
+                getRequiredLeadTicks());
+        return true;
+    }
+
+    @Override
+    public double estimateSuccessMargin(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction) {
+        if (placedThisFall) {
+            return super.estimateSuccessMargin(client, player, prediction);
+        }
+        if (!window.isFeasible()) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        BlockPos landingBlock = prediction.getHighestLandingBlock();
+        double fallDistance = player.fallDistance + (player.getY() - (landingBlock.getY() + 2));
+        return marginAfterDamage(player, landingDamage(player, fallDistance, plannedItem));
+    }
+
+    @Override
+    public boolean requiresHighFrequencyTimer() {
+        return MinecraftPhysics.isNearTerminalVelocity(lastVelocity.y);
+    }
+
+    @Override
+    public boolean canExecute(MinecraftClient client, ClientPlayerEntity player, MLGPredictionResult prediction) {
+        return plannedItem != null && InventoryManager.hasItem(player, plannedItem);
+    }
+
+    @Override
+    public boolean execute(MinecraftClient client, ClientPlayerEntity player, MLGPredictionResult prediction) {
+        if (placedThisFall || !window.isOpenAt(prediction.getTrajectoryTick())) {
+            return false;
+        }
+        return place(client, player, prediction.getHighestLandingBlock(), plannedItem,
+                prediction);
+    }
+
+    @Override
+    public void onSuccessfulPlacement(MinecraftClient client, ClientPlayerEntity player, long currentTime) {
+        placedThisFall = true;
+    }
+
+    @Override
+    public void handlePostLanding(MinecraftClient client, ClientPlayerEntity player) {
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        plannedItem = null;
+        placedThisFall = false;
+        window.clear();
+    }
+
+    @Override
+    public Item getPlannedItem(MLGPredictionResult prediction) {
+        return plannedItem;
+    }
+
+    public ClutchWindow getWindow() {
+        return window;
+    }
+
+    /**
+     * Whether the item can go into the placement cell above the landing block; placementPos is
+     * reused between calls and must not be kept
+     */
+    protected boolean canUseAt(MinecraftClient client, BlockPos landingBlock,
+            BlockPos placementPos, Item item) {
+        BlockState placed = PendingPlacements.getPlacedState(item);
+        return placed != null
+                && PendingPlacements.getBlockState(client.world, placementPos).isReplaceable()
+                && placed.canPlaceAt(client.world, placementPos);
+    }
+
+    /**
+     * Damage taken once the clutch is in place, falling the given distance onto it
+     */
+    protected float landingDamage(ClientPlayerEntity player, double fallDistance, Item item) {
+        BlockState placed = PendingPlacements.getPlacedState(item);
+        if (placed == null) {
+            return 0.0f;
+        }
+        LandingSafetyTable table = LandingSafetyTables.get();
+        if (table.isSafe(Block.getRawIdFromState(placed))) {
+            return 0.0f;
+        }
+        return FallDamageEstimator.estimateDamage(player, fallDistance, placed);
+    }
+
+    /**
+     * Send the placement; blocks are placed against a neighbor face by default
+     */
+    protected boolean place(MinecraftClient client, ClientPlayerEntity player,
+            BlockPos landingBlock, Item item, MLGPredictionResult prediction) {
+        return BlockPlacer.executeBlockClutch(client, player, landingBlock, item);
+    }
+
+    private Item findItem(PlayerInventory inventory) {
+        for (Item item : getClutchItems()) {
+            if (HotbarIndex.getSlotMask(inventory, item) != 0) {
+                return item;
+            }
+        }
+        return null;
+    }
+}
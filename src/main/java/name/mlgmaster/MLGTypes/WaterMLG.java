@@ -1,5 +1,6 @@
 package name.mlgmaster.MLGTypes;
 
+import name.mlgmaster.ActionScheduler;
 import name.mlgmaster.BlockPlacer;
 import name.mlgmaster.InventoryManager;
 import name.mlgmaster.MLGBlockPlacer;
@@ -7,10 +8,12 @@ import name.mlgmaster.MLGMaster;
 import name.mlgmaster.MLGPredictionResult;
 import name.mlgmaster.MLGType;
 import name.mlgmaster.MinecraftPhysics;
+import name.mlgmaster.PlacementTracker;
 import name.mlgmaster.PlayerRotationManager;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.Items;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
@@ -24,7 +27,8 @@ public class WaterMLG extends MLGType {
 
     private Vec3d lastVelocity = new Vec3d(0, 0, 0);
 
-    private static final double FALL_TRIGGER_DISTANCE = 4.5;
+    private static final Item[] CLUTCH_ITEMS = { Items.WATER_BUCKET };
+    private static final String PICKUP_ACTION = "water-pickup";
 
     @Override
     public boolean isApplicable(MinecraftClient client, ClientPlayerEntity player, Vec3d velocity, MLGPredictionResult prediction) {
@@ -36,7 +40,11 @@ public class WaterMLG extends MLGType {
             return false;
         }
 
-        if (player.fallDistance < FALL_TRIGGER_DISTANCE) {
+        if (!hasFallenEnough(player)) {
+            return false;
+        }
+
+        if (isSurvivableLanding(client, player, prediction)) {
             return false;
         }
 
@@ -45,6 +53,16 @@ public class WaterMLG extends MLGType {
         return true;
     }
 
+    @Override
+    public double estimateSuccessMargin(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction) {
+        // Water evaporates on placement in the Nether
+        if (client.world == null || client.world.getDimension().ultrawarm()) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return super.estimateSuccessMargin(client, player, prediction);
+    }
+
     @Override
     public boolean requiresHighFrequencyTimer() {
         return MinecraftPhysics.isNearTerminalVelocity(lastVelocity.y);
@@ -61,7 +79,7 @@ public class WaterMLG extends MLGType {
             MLGPredictionResult prediction) {
         if (prediction.shouldPlace()) {
             if (BlockPlacer.executeBlockPlacement(client, player, prediction)) {
-            placedWaterPos = prediction.getHighestLandingBlock().up();
+                placedWaterPos = PlacementTracker.getPlacedPos();
                 return true;
             }
             return false;
@@ -83,7 +101,17 @@ public class WaterMLG extends MLGType {
         }
     }
 
+    @Override
+    public boolean hasPendingPostLanding() {
+        return waterPlaced;
+    }
+
     private void handleWaterPickup(MinecraftClient client, ClientPlayerEntity player) {
+        // A retry may have moved the water since execute()
+        if (PlacementTracker.getPlacedPos() != null) {
+            placedWaterPos = PlacementTracker.getPlacedPos();
+        }
+
         if (client.world.getBlockState(placedWaterPos).getBlock() != Blocks.WATER) {
             MLGMaster.LOGGER.info(
                     client.world.getBlockState(placedWaterPos).getBlock().getTranslationKey());
@@ -91,38 +119,39 @@ public class WaterMLG extends MLGType {
             return;
         }
 
-        if (pickupWater(client, player, placedWaterPos)) {
-            reset();
-        }
+        pickupAttempted = true;
+        schedulePickup(placedWaterPos);
     }
 
-    private boolean pickupWater(MinecraftClient client, ClientPlayerEntity player,
-            BlockPos waterPos) {
-        try {
-            PlayerRotationManager.storeOriginalRotation(player);
+    /**
+     * Rotate, give the server a tick to see the new look, then scoop the water back up
+     */
+    private void schedulePickup(BlockPos waterPos) {
+        Vec3d waterCenter = Vec3d.ofCenter(waterPos);
 
-            Vec3d waterCenter = Vec3d.ofCenter(waterPos);
+        ActionScheduler.sequence(PICKUP_ACTION).then((client, player) -> {
+            PlayerRotationManager.storeOriginalRotation(player);
             PlayerRotationManager.lookAtTarget(player, waterCenter);
-
-            Thread.sleep(50);
-
-            Vec3d hitPos =
-                    new Vec3d(waterPos.getX() + 0.5, waterPos.getY() + 0.5, waterPos.getZ() + 0.5);
-
-            boolean success = MLGBlockPlacer.interactBlock(client, player, Hand.MAIN_HAND, waterPos,
-                    hitPos, Direction.UP);
+            return true;
+        }).waitTicks(1).then((client, player) -> {
+            boolean success = MLGBlockPlacer.interactBlock(client, player, Hand.MAIN_HAND,
+                    waterPos, waterCenter, Direction.UP);
 
             if (!success) {
                 success = MLGBlockPlacer.placeItem(client, player, Hand.MAIN_HAND);
             }
-
             return success;
-
-        } catch (Exception e) {
-            return false;
-        } finally {
-            PlayerRotationManager.restoreOriginalRotation(player);
-        }
+        }).onComplete((client, player, success) -> {
+            if (player != null) {
+                PlayerRotationManager.restoreOriginalRotation(player);
+            }
+            if (success) {
+                reset();
+            } else {
+                // Let the next post-landing pass retry
+                pickupAttempted = false;
+            }
+        }).submit();
     }
 
     @Override
@@ -142,6 +171,16 @@ public class WaterMLG extends MLGType {
         return "Water MLG";
     }
 
+    @Override
+    public Item getPlannedItem(MLGPredictionResult prediction) {
+        return Items.WATER_BUCKET;
+    }
+
+    @Override
+    public Item[] getClutchItems() {
+        return CLUTCH_ITEMS;
+    }
+
     public boolean isWaterPlaced() {
         return waterPlaced;
     }
@@ -0,0 +1,148 @@
+package name.mlgmaster;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+
+/**
+ * Optimistic overlay of placements we have sent but the server has not confirmed yet. Prediction
+ * and safety checks read through it so an already-placed clutch is not planned or fired again.
+ * Entries are dropped when the server reports the block, shortly after the use is acknowledged,
+ * or when they expire.
+ */
+public class PendingPlacements {
+    private static final int EXPIRY_TICKS = 20;
+    // Block updates can trail the acknowledgement slightly
+    private static final int POST_ACK_GRACE_TICKS = 2;
+
+    private static final Long2ObjectOpenHashMap<Entry> pending = new Long2ObjectOpenHashMap<>();
+
+    private static class Entry {
+        private final BlockState state;
+        private final int sequence;
+        private long expiryTick;
+
+        private Entry(BlockState state, int sequence, long expiryTick) {
+            this.state = state;
+            this.sequence = sequence;
+            this.expiryTick = expiryTick;
+        }
+    }
+
+    /**
+     * Record a placement that was just sent; items without a known block are ignored
+     */
+    public static void add(BlockPos pos, Item item, int sequence) {
+        BlockState state = getPlacedState(item);
+        if (state == null) {
+            return;
+        }
+
+        long expiry = ActionScheduler.getCurrentTick() + EXPIRY_TICKS;
+        pending.put(pos.asLong(), new Entry(state, sequence, expiry));
+        MLGMaster.LOGGER.debug("PENDING PLACEMENT: {} at {} (seq {})", state, pos, sequence);
+    }
+
+    /**
+     * Overlay state at the position, or null when nothing is pending there
+     */
+    public static BlockState get(long packedPos) {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        Entry entry = pending.get(packedPos);
+        return entry != null ? entry.state : null;
+    }
+
+    /**
+     * World state with pending placements applied
+     */
+    public static BlockState getBlockState(BlockView world, BlockPos pos) {
+        BlockState overlay = get(pos.asLong());
+        return overlay != null ? overlay : world.getBlockState(pos);
+    }
+
+    public static boolean isPending(BlockPos pos) {
+        return get(pos.asLong()) != null;
+    }
+
+    public static boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * The server has sent the real state for this position
+     */
+    public static void onServerBlockUpdate(BlockPos pos) {
+        if (!pending.isEmpty() && pending.remove(pos.asLong()) != null) {
+            MLGMaster.LOGGER.debug("PENDING PLACEMENT RECONCILED: {}", pos);
+        }
+    }
+
+    /**
+     * The server has processed every interaction up to this sequence number
+     */
+    public static void onAcknowledged(int sequence) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long graceExpiry = ActionScheduler.getCurrentTick() + POST_ACK_GRACE_TICKS;
+        for (Entry entry : pending.values()) {
+            if (entry.sequence <= sequence && entry.expiryTick > graceExpiry) {
+                entry.expiryTick = graceExpiry;
+            }
+        }
+    }
+
+    /**
+     * Drop expired entries; called once per client tick
+     */
+    public static void tick() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long tick = ActionScheduler.getCurrentTick();
+        ObjectIterator<Long2ObjectMap.Entry<Entry>> iterator =
+                pending.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Long2ObjectMap.Entry<Entry> entry = iterator.next();
+            if (entry.getValue().expiryTick <= tick) {
+                MLGMaster.LOGGER.debug("PENDING PLACEMENT EXPIRED: {}",
+                        BlockPos.fromLong(entry.getLongKey()));
+                iterator.remove();
+            }
+        }
+    }
+
+    public static void remove(BlockPos pos) {
+        if (pos != null) {
+            pending.remove(pos.asLong());
+        }
+    }
+
+    public static void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Block state an item places, or null if unknown
+     */
+    public static BlockState getPlacedState(Item item) {
+        if (item == Items.WATER_BUCKET) {
+            return Blocks.WATER.getDefaultState();
+        }
+        if (item instanceof BlockItem blockItem) {
+            return blockItem.getBlock().getDefaultState();
+        }
+        return null;
+    }
+}
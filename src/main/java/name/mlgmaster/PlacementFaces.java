@@ -0,0 +1,195 @@
+package name.mlgmaster;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Arrays;
+import net.minecraft.block.AbstractRedstoneGateBlock;
+import net.minecraft.block.BellBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.CakeBlock;
+import net.minecraft.block.ComposterBlock;
+import net.minecraft.block.DaylightDetectorBlock;
+import net.minecraft.block.DragonEggBlock;
+import net.minecraft.block.JukeboxBlock;
+import net.minecraft.block.LeverBlock;
+import net.minecraft.block.NoteBlock;
+import net.minecraft.block.RedstoneWireBlock;
+import net.minecraft.block.RespawnAnchorBlock;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.world.EmptyBlockView;
+
+/**
+ * Per-shape face tables for block placement. For each outline shape and direction the table holds
+ * the block-local hit point on the outermost face in that direction (the center of its largest
+ * box), or NaN when the shape has nothing to click there. Tables are computed once per distinct
+ * shape and shared by every state using it, so finding a clickable face for a clutch block is a
+ * handful of array reads instead of trial interactions. Neighbors whose own use action would run
+ * instead of the placement are never clicked, and faces hidden behind other blocks are skipped via
+ * {@link PlacementReachability}.
+ */
+public class PlacementFaces {
+    private static final int FACE_STRIDE = 3;
+    private static final int DIRECTIONS = Direction.values().length;
+    private static final float[] NO_FACES = new float[DIRECTIONS * FACE_STRIDE];
+    // Clicking the block below is preferred; side neighbors are the fallback
+    private static final Direction[] SEARCH_ORDER = {Direction.UP, Direction.NORTH,
+            Direction.SOUTH, Direction.EAST, Direction.WEST};
+
+    private static final Reference2ObjectOpenHashMap<VoxelShape, float[]> byShape =
+            new Reference2ObjectOpenHashMap<>();
+    private static float[][] byState = new float[0][];
+
+    static {
+        Arrays.fill(NO_FACES, Float.NaN);
+    }
+
+    /**
+     * Face table for a state, indexed by {@code direction.ordinal() * 3}
+     */
+    public static float[] get(BlockState state) {
+        int id = Block.getRawIdFromState(state);
+        if (id >= byState.length) {
+            byState = Arrays.copyOf(byState, Math.max(id + 1, Block.STATE_IDS.size()));
+        }
+
+        float[] table = byState[id];
+        if (table == null) {
+            // State-level shape so offset plants do not mint a new shape per position
+            VoxelShape shape = state.getOutlineShape(EmptyBlockView.INSTANCE, BlockPos.ORIGIN);
+            table = byShape.computeIfAbsent(shape, PlacementFaces::compute);
+            byState[id] = table;
+        }
+        return table;
+    }
+
+    /**
+     * Hit result that places a block into the target cell by clicking a neighbor's face, or null
+     * if the cell is occupied or no neighbor face is visible and within reach
+     */
+    public static BlockHitResult findPlacementHit(ClientWorld world, ClientPlayerEntity player,
+            BlockPos target) {
+        if (!PendingPlacements.getBlockState(world, target).isReplaceable()) {
+            return null;
+        }
+
+        Vec3d eyes = player.getEyePos();
+        double reach = player.getBlockInteractionRange();
+        double reachSquared = reach * reach;
+
+        for (Direction side : SEARCH_ORDER) {
+            BlockPos neighbor = target.offset(side.getOpposite());
+            BlockState neighborState = PendingPlacements.getBlockState(world, neighbor);
+            // Clicking a replaceable block replaces it; clicking a container opens it
+            if (neighborState.isReplaceable()
+                    || neighborState.createScreenHandlerFactory(world, neighbor) != null
+                    || isInteractive(neighborState)) {
+                continue;
+            }
+
+            float[] table = get(neighborState);
+            int offset = side.ordinal() * FACE_STRIDE;
+            if (Float.isNaN(table[offset])) {
+                continue;
+            }
+
+            double hitX = neighbor.getX() + table[offset];
+            double hitY = neighbor.getY() + table[offset + 1];
+            double hitZ = neighbor.getZ() + table[offset + 2];
+
+            // The face has to point at the eyes to be hit by a look ray
+            double towardEyes = (eyes.x - hitX) * side.getOffsetX()
+                    + (eyes.y - hitY) * side.getOffsetY() + (eyes.z - hitZ) * side.getOffsetZ();
+            if (towardEyes <= 0.0 || eyes.squaredDistanceTo(hitX, hitY, hitZ) > reachSquared) {
+                continue;
+            }
+
+            Vec3d hitPos = new Vec3d(hitX, hitY, hitZ);
+            if (!PlacementReachability.isReachable(world, player, eyes.x, eyes.y, eyes.z, hitPos,
+                    neighbor)) {
+                continue;
+            }
+            return new BlockHitResult(hitPos, side, neighbor, false);
+        }
+        return null;
+    }
+
+    /**
+     * Whether a use on the block does something other than place against it: the server runs the
+     * block's own use action first, so clicking a door toggles it and a cauldron swallows a water
+     * bucket instead of the clutch landing in the target cell
+     */
+    private static boolean isInteractive(BlockState state) {
+        if (state.isIn(BlockTags.DOORS) || state.isIn(BlockTags.TRAPDOORS)
+                || state.isIn(BlockTags.FENCE_GATES) || state.isIn(BlockTags.BUTTONS)
+                || state.isIn(BlockTags.BEDS) || state.isIn(BlockTags.CANDLE_CAKES)
+                || state.isIn(BlockTags.CAULDRONS)) {
+            return true;
+        }
+        Block block = state.getBlock();
+        return block instanceof LeverBlock || block instanceof NoteBlock
+                || block instanceof AbstractRedstoneGateBlock || block instanceof CakeBlock
+                || block instanceof DaylightDetectorBlock || block instanceof RedstoneWireBlock
+                || block instanceof ComposterBlock || block instanceof BellBlock
+                || block instanceof RespawnAnchorBlock || block instanceof JukeboxBlock
+                || block instanceof DragonEggBlock;
+    }
+
+    /**
+     * Drop cached tables; shapes are static per state, so this is only needed if the block
+     * registry changes
+     */
+    public static void clear() {
+        byShape.clear();
+        byState = new float[0][];
+    }
+
+    private static float[] compute(VoxelShape shape) {
+        if (shape.isEmpty()) {
+            return NO_FACES;
+        }
+
+        float[] table = new float[DIRECTIONS * FACE_STRIDE];
+        for (Direction direction : Direction.values()) {
+            Direction.Axis axis = direction.getAxis();
+            boolean positive = direction.getDirection() == Direction.AxisDirection.POSITIVE;
+
+            Box best = null;
+            double bestExtreme = 0.0;
+            double bestArea = 0.0;
+            for (Box box : shape.getBoundingBoxes()) {
+                double extreme = positive ? box.getMax(axis) : box.getMin(axis);
+                double area = faceArea(box, axis);
+                boolean further = best == null
+                        || (positive ? extreme > bestExtreme : extreme < bestExtreme);
+                if (further || (extreme == bestExtreme && area > bestArea)) {
+                    best = box;
+                    bestExtreme = extreme;
+                    bestArea = area;
+                }
+            }
+
+            int offset = direction.ordinal() * FACE_STRIDE;
+            Vec3d center = best.getCenter();
+            table[offset] = (float) (axis == Direction.Axis.X ? bestExtreme : center.x);
+            table[offset + 1] = (float) (axis == Direction.Axis.Y ? bestExtreme : center.y);
+            table[offset + 2] = (float) (axis == Direction.Axis.Z ? bestExtreme : center.z);
+        }
+        return table;
+    }
+
+    private static double faceArea(Box box, Direction.Axis axis) {
+        return switch (axis) {
+            case X -> box.getLengthY() * box.getLengthZ();
+            case Y -> box.getLengthX() * box.getLengthZ();
+            case Z -> box.getLengthX() * box.getLengthY();
+        };
+    }
+}
@@ -0,0 +1,213 @@
+package name.mlgmaster;
+
+import name.mlgmaster.mixin.ClientPlayerInteractionManagerAccessor;
+import name.mlgmaster.mixin.PlayerInventoryAccessor;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.ClientConnection;
+import net.minecraft.network.listener.ServerPlayPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.c2s.play.PlayerInteractBlockC2SPacket;
+import net.minecraft.network.packet.c2s.play.PlayerInteractItemC2SPacket;
+import net.minecraft.network.packet.c2s.play.PlayerMoveC2SPacket;
+import net.minecraft.network.packet.c2s.play.UpdateSelectedSlotC2SPacket;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Sends a placement as one burst of packets: an optional slot select, an optional look packet and
+ * the sequenced use-item or use-on-block packet. Only the last packet flushes, so the server reads
+ * all of them in the same tick, and the slot and look are applied before the use. The plan is
+ * computed up front and reused between placements.
+ */
+public class PlacementPipeline {
+    // Pre-aim usually leaves the view this close, in which case the look packet is skipped
+    private static final float LOOK_TOLERANCE_DEGREES = 1.0f;
+
+    private static final Plan sharedPlan = new Plan();
+
+    private static int lastSequence = -1;
+    private static Hand lastHand = Hand.MAIN_HAND;
+    private static ActionResult lastResult = ActionResult.PASS;
+
+    /**
+     * Precomputed packet contents for one placement
+     */
+    public static class Plan {
+        private Hand hand = Hand.MAIN_HAND;
+        private int slot = -1;
+        private float yaw;
+        private float pitch;
+        private boolean sendLook = true;
+        private boolean valid = false;
+
+        public Hand getHand() {
+            return hand;
+        }
+
+        /**
+         * Hotbar slot to select first, or -1 if the server already has it selected
+         */
+        public int getSlot() {
+            return slot;
+        }
+
+        public float getYaw() {
+            return yaw;
+        }
+
+        public float getPitch() {
+            return pitch;
+        }
+
+        /**
+         * Whether the view is far enough off the plan to need its own look packet
+         */
+        public boolean shouldSendLook() {
+            return sendLook;
+        }
+
+        public boolean isValid() {
+            return valid;
+        }
+    }
+
+    /**
+     * Work out hand, slot and look for using the item on the target; the item must already be in
+     * the main hand or off hand
+     */
+    public static Plan prepare(MinecraftClient client, ClientPlayerEntity player, Item item,
+            Vec3d lookTarget) {
+        sharedPlan.valid = false;
+        sharedPlan.slot = -1;
+
+        if (player.getMainHandStack().isOf(item)) {
+            sharedPlan.hand = Hand.MAIN_HAND;
+            int selected = ((PlayerInventoryAccessor) player.getInventory()).getSelectedSlot();
+            int serverSlot = ((ClientPlayerInteractionManagerAccessor) client.interactionManager)
+                    .getLastSelectedSlot();
+            if (selected != serverSlot) {
+                sharedPlan.slot = selected;
+            }
+        } else if (player.getOffHandStack().isOf(item)) {
+            sharedPlan.hand = Hand.OFF_HAND;
+        } else {
+            return sharedPlan;
+        }
+
+        Vec3d eyes = player.getEyePos();
+        sharedPlan.yaw = PlayerRotationManager.calculateYaw(eyes, lookTarget);
+        sharedPlan.pitch = PlayerRotationManager.calculatePitch(eyes, lookTarget);
+        sharedPlan.sendLook = Math.abs(MathHelper.wrapDegrees(sharedPlan.yaw - player.getYaw()))
+                > LOOK_TOLERANCE_DEGREES
+                || Math.abs(sharedPlan.pitch - player.getPitch()) > LOOK_TOLERANCE_DEGREES;
+        sharedPlan.valid = true;
+        return sharedPlan;
+    }
+
+    /**
+     * Send the planned packets; the client-side item use is predicted exactly like vanilla so
+     * the pending update manager can roll it back if the server disagrees
+     */
+    public static boolean execute(MinecraftClient client, ClientPlayerEntity player, Plan plan) {
+        Hand hand = plan.hand;
+        return send(client, player, plan, (manager, sequence) -> {
+            PlayerInteractItemC2SPacket packet =
+                    new PlayerInteractItemC2SPacket(hand, sequence, plan.yaw, plan.pitch);
+
+            ItemStack stack = player.getStackInHand(hand);
+            if (player.getItemCooldownManager().isCoolingDown(stack)) {
+                return packet;
+            }
+
+            ActionResult result = stack.use(client.world, player, hand);
+            if (result instanceof ActionResult.Success success
+                    && success.getNewHandStack() != null
+                    && success.getNewHandStack() != stack) {
+                player.setStackInHand(hand, success.getNewHandStack());
+            }
+            lastResult = result;
+            return packet;
+        });
+    }
+
+    /**
+     * Same burst, but the item is used on a block face, as when placing a block against a
+     * neighbor; the client-side placement is predicted through vanilla's own interaction code
+     */
+    public static boolean executeOnBlock(MinecraftClient client, ClientPlayerEntity player,
+            Plan plan, BlockHitResult hit) {
+        Hand hand = plan.hand;
+        return send(client, player, plan, (manager, sequence) -> {
+            lastResult = manager.invokeInteractBlockInternal(player, hand, hit);
+            return new PlayerInteractBlockC2SPacket(hand, hit, sequence);
+        });
+    }
+
+    private interface UsePacket {
+        Packet<ServerPlayPacketListener> create(ClientPlayerInteractionManagerAccessor manager,
+                int sequence);
+    }
+
+    private static boolean send(MinecraftClient client, ClientPlayerEntity player, Plan plan,
+            UsePacket usePacket) {
+        if (!plan.isValid() || client.getNetworkHandler() == null) {
+            return false;
+        }
+
+        ClientPlayerInteractionManagerAccessor manager =
+                (ClientPlayerInteractionManagerAccessor) client.interactionManager;
+        ClientConnection connection = client.getNetworkHandler().getConnection();
+
+        if (plan.slot >= 0) {
+            connection.send(new UpdateSelectedSlotC2SPacket(plan.slot), null, false);
+            // Keep vanilla from re-sending the same slot on its next sync
+            manager.setLastSelectedSlot(plan.slot);
+        }
+
+        if (plan.sendLook) {
+            connection.send(new PlayerMoveC2SPacket.LookAndOnGround(plan.yaw, plan.pitch,
+                    player.isOnGround(), player.horizontalCollision), null, false);
+        }
+
+        float originalYaw = player.getYaw();
+        float originalPitch = player.getPitch();
+        player.setYaw(plan.yaw);
+        player.setPitch(plan.pitch);
+
+        lastHand = plan.hand;
+        lastResult = ActionResult.PASS;
+        try {
+            // Flushes the burst
+            manager.invokeSendSequencedPacket(client.world, sequence -> {
+                lastSequence = sequence;
+                return usePacket.create(manager, sequence);
+            });
+        } finally {
+            player.setYaw(originalYaw);
+            player.setPitch(originalPitch);
+        }
+
+        MLGMaster.LOGGER.info(
+                "PLACEMENT BURST: hand={} slot={} look={} seq={} yaw={} pitch={} result={}",
+                plan.hand, plan.slot, plan.sendLook, lastSequence, plan.yaw, plan.pitch,
+                lastResult);
+        return lastResult.isAccepted();
+    }
+
+    /**
+     * Interaction sequence number of the last use-item packet, used to match the server's ack
+     */
+    public static int getLastSequence() {
+        return lastSequence;
+    }
+
+    public static Hand getLastHand() {
+        return lastHand;
+    }
+}
@@ -0,0 +1,102 @@
+package name.mlgmaster;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.RaycastContext;
+import net.minecraft.world.World;
+
+/**
+ * Line-of-sight check for placement targets, done with {@code world.raycast} the way the server
+ * traces a use. A target counts as reachable if it is within interaction range and the ray from
+ * the eyes reaches it or ends on the block being clicked. Results are cached per target block,
+ * eye position bucket relative to the target and target point within the block, so the 2 ms
+ * updates of one fall reuse a handful of raycasts.
+ */
+public class PlacementReachability {
+    private static final int EYE_BUCKETS_PER_BLOCK = 4;
+    private static final int TARGET_STEPS_PER_BLOCK = 16;
+    private static final byte REACHABLE = 1;
+    private static final byte BLOCKED = 2;
+
+    private static final Long2ObjectOpenHashMap<Long2ByteOpenHashMap> cache =
+            new Long2ObjectOpenHashMap<>();
+    private static long cacheHits = 0;
+    private static long cacheMisses = 0;
+
+    /**
+     * Whether a use from the given eye position reaches the target point on targetBlock
+     */
+    public static boolean isReachable(World world, ClientPlayerEntity player, double eyeX,
+            double eyeY, double eyeZ, Vec3d target, BlockPos targetBlock) {
+        double dx = target.x - eyeX;
+        double dy = target.y - eyeY;
+        double dz = target.z - eyeZ;
+        double reach = player.getBlockInteractionRange();
+        // Out of range needs no raycast and would overflow the relative bucket
+        if (dx * dx + dy * dy + dz * dz > reach * reach) {
+            return false;
+        }
+
+        Long2ByteOpenHashMap byEye = cache.get(targetBlock.asLong());
+        if (byEye == null) {
+            byEye = new Long2ByteOpenHashMap();
+            cache.put(targetBlock.asLong(), byEye);
+        }
+
+        long key = bucketKey(dx, dy, dz, target, targetBlock);
+        byte cached = byEye.get(key);
+        if (cached != 0) {
+            cacheHits++;
+            return cached == REACHABLE;
+        }
+
+        cacheMisses++;
+        boolean reachable = raycast(world, player, new Vec3d(eyeX, eyeY, eyeZ), target,
+                targetBlock);
+        byEye.put(key, reachable ? REACHABLE : BLOCKED);
+        return reachable;
+    }
+
+    /**
+     * Forget cached results; called when a fall ends and around each edge lookahead
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    public static long getCacheHits() {
+        return cacheHits;
+    }
+
+    public static long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    private static boolean raycast(World world, ClientPlayerEntity player, Vec3d eyes,
+            Vec3d target, BlockPos targetBlock) {
+        BlockHitResult hit = world.raycast(new RaycastContext(eyes, target,
+                RaycastContext.ShapeType.OUTLINE, RaycastContext.FluidHandling.NONE, player));
+        // A ray ending exactly on the face can miss by rounding; nothing was in the way
+        return hit.getType() == HitResult.Type.MISS || hit.getBlockPos().equals(targetBlock);
+    }
+
+    /**
+     * Eye bucket relative to the target (12 bits per axis) plus the target point inside its
+     * block (5 bits per axis)
+     */
+    private static long bucketKey(double dx, double dy, double dz, Vec3d target,
+            BlockPos targetBlock) {
+        long eyeX = (long) Math.floor(-dx * EYE_BUCKETS_PER_BLOCK) & 0xFFF;
+        long eyeY = (long) Math.floor(-dy * EYE_BUCKETS_PER_BLOCK) & 0xFFF;
+        long eyeZ = (long) Math.floor(-dz * EYE_BUCKETS_PER_BLOCK) & 0xFFF;
+        long localX = Math.round((target.x - targetBlock.getX()) * TARGET_STEPS_PER_BLOCK) & 0x1F;
+        long localY = Math.round((target.y - targetBlock.getY()) * TARGET_STEPS_PER_BLOCK) & 0x1F;
+        long localZ = Math.round((target.z - targetBlock.getZ()) * TARGET_STEPS_PER_BLOCK) & 0x1F;
+        return eyeX << 24 | eyeY << 12 | eyeZ | localX << 46 | localY << 41 | localZ << 36;
+    }
+}
@@ -0,0 +1,172 @@
+package name.mlgmaster;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import name.mlgmaster.mixin.PlayerInventoryAccessor;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.network.PlayerListEntry;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.screen.PlayerScreenHandler;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Follows the last placement until the server confirms it through a block update or an inventory
+ * change. A rejected or unconfirmed placement is retried on the next-best hit block while there
+ * are still ticks to impact. The deadline is derived from the current ping.
+ */
+public class PlacementTracker {
+    private static final long MIN_DEADLINE_NANOS = 100_000_000L;
+    // One server tick to process the use on top of the round trip
+    private static final long SERVER_TICK_NANOS = 50_000_000L;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int PLAYER_SCREEN_SYNC_ID = 0;
+
+    public enum Status {
+        NONE, PENDING, CONFIRMED, FAILED
+    }
+
+    private static final LongOpenHashSet triedLandingBlocks = new LongOpenHashSet();
+
+    private static Status status = Status.NONE;
+    private static BlockPos placedPos = null;
+    private static Item item = null;
+    private static MLGType type = null;
+    private static int handSlot = -1;
+    private static long sentNanos = 0;
+    private static long deadlineNanos = 0;
+    private static int attempts = 0;
+
+    /**
+     * Called by the placer once the placement packets are on the wire
+     */
+    public static void onAttempt(MinecraftClient client, ClientPlayerEntity player,
+            BlockPos landingBlock, Item placedItem) {
+        triedLandingBlocks.add(landingBlock.asLong());
+        placedPos = landingBlock.up();
+        item = placedItem;
+        type = MLGRegistry.getSelectedType();
+        handSlot = PlacementPipeline.getLastHand() == Hand.OFF_HAND ? PlayerScreenHandler.OFFHAND_ID
+                : PlayerScreenHandler.HOTBAR_START
+                        + ((PlayerInventoryAccessor) player.getInventory()).getSelectedSlot();
+        sentNanos = System.nanoTime();
+        deadlineNanos = sentNanos + getDeadlineNanos(client, player);
+        status = Status.PENDING;
+        attempts++;
+        MLGMetrics.recordAttempt();
+        MLGMetrics.recordTypeAttempt(type);
+    }
+
+    /**
+     * Block update from the server; the tracked position either holds the placed block or not
+     */
+    public static void onServerBlockUpdate(BlockPos pos, BlockState state) {
+        if (status != Status.PENDING || !pos.equals(placedPos)) {
+            return;
+        }
+
+        BlockState expected = PendingPlacements.getPlacedState(item);
+        if (expected != null && state.getBlock() == expected.getBlock()) {
+            confirm("block update");
+        } else {
+            status = Status.FAILED;
+            MLGMetrics.recordRejected();
+            MLGMetrics.recordTypeOutcome(type, false);
+            MLGMaster.LOGGER.warn("PLACEMENT REJECTED: Server has {} at {}", state, pos);
+        }
+    }
+
+    /**
+     * Slot contents from the server's player screen handler; the clutch item leaving the hand slot
+     * means the use went through
+     */
+    public static void onInventorySlot(int syncId, int slot, ItemStack stack) {
+        if (status != Status.PENDING || syncId != PLAYER_SCREEN_SYNC_ID || slot != handSlot) {
+            return;
+        }
+
+        if (!stack.isOf(item)) {
+            confirm("inventory update");
+        }
+    }
+
+    /**
+     * Check the deadline and retry if needed; called every falling tick with the latest prediction
+     */
+    public static void tick(MinecraftClient client, ClientPlayerEntity player,
+            MLGPredictionResult prediction) {
+        if (status == Status.PENDING && System.nanoTime() > deadlineNanos) {
+            status = Status.FAILED;
+            MLGMetrics.recordTimedOut();
+            MLGMetrics.recordTypeOutcome(type, false);
+            MLGMaster.LOGGER.warn("PLACEMENT UNCONFIRMED: No server confirmation for {} after {}ms",
+                    placedPos, (System.nanoTime() - sentNanos) / 1_000_000);
+        }
+
+        if (status != Status.FAILED) {
+            return;
+        }
+
+        PendingPlacements.remove(placedPos);
+
+        if (attempts >= MAX_ATTEMPTS || prediction.getTicksToImpact() <= 0
+                || prediction.getLandingResult() == null) {
+            return;
+        }
+
+        MLGMetrics.recordRetry();
+        MLGMaster.LOGGER.info("PLACEMENT RETRY: Attempt {} with {} ticks to impact", attempts + 1,
+                prediction.getTicksToImpact());
+
+        if (!BlockPlacer.retryPlacement(client, player, prediction, item, triedLandingBlocks)) {
+            // Nothing left to try this fall
+            attempts = MAX_ATTEMPTS;
+        }
+    }
+
+    public static void reset() {
+        if (status == Status.PENDING) {
+            MLGMaster.LOGGER.info("PLACEMENT UNCONFIRMED AT LANDING: {}", placedPos);
+        }
+        triedLandingBlocks.clear();
+        status = Status.NONE;
+        placedPos = null;
+        item = null;
+        type = null;
+        handSlot = -1;
+        attempts = 0;
+    }
+
+    public static Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Position of the most recent placement this fall, or null
+     */
+    public static BlockPos getPlacedPos() {
+        return placedPos;
+    }
+
+    private static void confirm(String source) {
+        long latency = System.nanoTime() - sentNanos;
+        status = Status.CONFIRMED;
+        MLGMetrics.recordConfirmed(latency);
+        MLGMetrics.recordTypeOutcome(type, true);
+        MLGMaster.LOGGER.info("PLACEMENT CONFIRMED: {} at {} after {}ms via {}", item, placedPos,
+                latency / 1_000_000.0, source);
+    }
+
+    private static long getDeadlineNanos(MinecraftClient client, ClientPlayerEntity player) {
+        long rttNanos = 0;
+        if (client.getNetworkHandler() != null) {
+            PlayerListEntry entry = client.getNetworkHandler().getPlayerListEntry(player.getUuid());
+            if (entry != null) {
+                rttNanos = entry.getLatency() * 1_000_000L;
+            }
+        }
+        return Math.max(MIN_DEADLINE_NANOS, rttNanos + rttNanos / 2 + SERVER_TICK_NANOS);
+    }
+}
@@ -20,24 +20,31 @@ public class PlayerRotationManager {
     public static void lookAtTarget(ClientPlayerEntity player, Vec3d target) {
         Vec3d playerEyes = player.getEyePos();
 
-        // Calculate direction to target
-        double deltaX = target.x - playerEyes.x;
-        double deltaY = target.y - playerEyes.y;
-        double deltaZ = target.z - playerEyes.z;
+        // Set rotation
+        player.setYaw(calculateYaw(playerEyes, target));
+        player.setPitch(calculatePitch(playerEyes, target));
+    }
+
+    /**
+     * Yaw that faces the target from the given eye position
+     */
+    public static float calculateYaw(Vec3d eyes, Vec3d target) {
+        double deltaX = target.x - eyes.x;
+        double deltaZ = target.z - eyes.z;
+        return (float) (Math.toDegrees(Math.atan2(deltaZ, deltaX)) - 90.0);
+    }
 
-        // Calculate yaw (horizontal rotation)
-        double yaw = Math.toDegrees(Math.atan2(deltaZ, deltaX)) - 90.0;
+    /**
+     * Pitch that faces the target from the given eye position, clamped to -90..90
+     */
+    public static float calculatePitch(Vec3d eyes, Vec3d target) {
+        double deltaX = target.x - eyes.x;
+        double deltaY = target.y - eyes.y;
+        double deltaZ = target.z - eyes.z;
 
-        // Calculate pitch (vertical rotation)
         double horizontalDistance = Math.sqrt(deltaX * deltaX + deltaZ * deltaZ);
         double pitch = -Math.toDegrees(Math.atan2(deltaY, horizontalDistance));
-
-        // Clamp pitch to valid range (-90 to 90)
-        pitch = MathHelper.clamp(pitch, -90.0, 90.0);
-
-        // Set rotation
-        player.setYaw((float) yaw);
-        player.setPitch((float) pitch);
+        return (float) MathHelper.clamp(pitch, -90.0, 90.0);
     }
 
     public static void setLookDown(ClientPlayerEntity player) {
@@ -0,0 +1,73 @@
+package name.mlgmaster;
+
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Turns the view toward the predicted placement target over the last few ticks of a fall, at a
+ * bounded angular speed, so the rotation is already in place when the placement fires. Steps at
+ * most once per client tick even when the high-frequency timer calls in more often.
+ */
+public class PreAimController {
+    private static boolean aiming = false;
+    private static long lastStepTick = -1;
+    private static float originalYaw = 0;
+    private static float originalPitch = 0;
+
+    /**
+     * Step toward the current prediction's target; call after the placement stage so each step
+     * reaches the server with the next movement packet
+     */
+    public static void update(ClientPlayerEntity player, MLGPredictionResult prediction) {
+        MLGConfig config = MLGConfig.get();
+        int ticksToImpact = prediction.getTicksToImpact();
+        Vec3d target = prediction.getPlacementTarget();
+
+        if (target == null || ticksToImpact < 0 || ticksToImpact > config.getPreAimLeadTicks()) {
+            return;
+        }
+
+        long tick = ActionScheduler.getCurrentTick();
+        if (tick == lastStepTick) {
+            return;
+        }
+        lastStepTick = tick;
+
+        if (!aiming) {
+            originalYaw = player.getYaw();
+            originalPitch = player.getPitch();
+            aiming = true;
+        }
+
+        Vec3d eyes = player.getEyePos();
+        float maxStep = config.getPreAimMaxDegreesPerTick();
+        float yaw = player.getYaw();
+        float pitch = player.getPitch();
+
+        float yawDelta =
+                MathHelper.wrapDegrees(PlayerRotationManager.calculateYaw(eyes, target) - yaw);
+        float pitchDelta = PlayerRotationManager.calculatePitch(eyes, target) - pitch;
+
+        player.setYaw(yaw + MathHelper.clamp(yawDelta, -maxStep, maxStep));
+        player.setPitch(MathHelper.clamp(pitch + MathHelper.clamp(pitchDelta, -maxStep, maxStep),
+                -90.0f, 90.0f));
+    }
+
+    /**
+     * Hand the view back to the player after the landing is handled
+     */
+    public static void restore(ClientPlayerEntity player) {
+        if (!aiming) {
+            return;
+        }
+        player.setYaw(originalYaw);
+        player.setPitch(originalPitch);
+        aiming = false;
+        lastStepTick = -1;
+    }
+
+    public static boolean isAiming() {
+        return aiming;
+    }
+}
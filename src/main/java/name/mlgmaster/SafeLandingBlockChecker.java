@@ -1,36 +1,67 @@
 package name.mlgmaster;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import name.mlgmaster.core.LandingSafetyTable;
 import net.minecraft.block.Block;
-import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.block.BlockState;
-import net.minecraft.registry.tag.BlockTags;
 import net.minecraft.client.network.ClientPlayerEntity;
 
 public class SafeLandingBlockChecker {
 
     public static class SafetyResult {
+        private static final Object[] NO_ARGS = new Object[0];
+
         private final boolean isSafe;
-        private final String reason;
         private final boolean needsCrouching;
+        private final String reasonFormat;
+        private final Object[] reasonArgs;
+        private String reason;
 
         public SafetyResult(boolean isSafe, String reason, boolean needsCrouching) {
-            this.isSafe = isSafe;
-            this.reason = reason;
-            this.needsCrouching = needsCrouching;
+            this(isSafe, needsCrouching, reason, NO_ARGS);
         }
 
         public SafetyResult(boolean isSafe, String reason) {
             this(isSafe, reason, false);
         }
 
+        private SafetyResult(boolean isSafe, boolean needsCrouching, String reasonFormat,
+                Object[] reasonArgs) {
+            this.isSafe = isSafe;
+            this.needsCrouching = needsCrouching;
+            this.reasonFormat = reasonFormat;
+            this.reasonArgs = reasonArgs;
+        }
+
+        /**
+         * The reason is only formatted if someone reads it
+         */
+        static SafetyResult of(boolean isSafe, boolean needsCrouching, String reasonFormat,
+                Object... reasonArgs) {
+            return new SafetyResult(isSafe, needsCrouching, reasonFormat, reasonArgs);
+        }
+
         public boolean isSafe() {
             return isSafe;
         }
 
         public String getReason() {
+            if (reason == null) {
+                if (reasonArgs.length == 0) {
+                    reason = reasonFormat;
+                } else {
+                    Object[] args = new Object[reasonArgs.length];
+                    for (int i = 0; i < args.length; i++) {
+                        args[i] = reasonArgs[i] instanceof Block block
+                                ? block.getName().getString()
+                                : reasonArgs[i];
+                    }
+                    reason = String.format(reasonFormat, args);
+                }
+            }
             return reason;
         }
 
@@ -41,127 +72,157 @@ public class SafeLandingBlockChecker {
         @Override
         public String toString() {
             return String.format("SafetyResult{safe=%s, reason='%s', needsCrouching=%s}", isSafe,
-                    reason, needsCrouching);
+                    getReason(), needsCrouching);
         }
     }
 
+    private static final SafetyResult NO_WORLD = new SafetyResult(false, "World not available");
+
+    private static final int HEIGHT_BUCKET_BLOCKS = 10;
+    private static final int SCAFFOLDING_MAX_FALL = 150;
+    private static final int NO_DEPENDENCY = -1;
+
+    // Results for the current fall, revalidated against the inputs they were computed from
+    private static final Long2ObjectOpenHashMap<CachedResult> cache =
+            new Long2ObjectOpenHashMap<>();
+    private static long cacheHits = 0;
+    private static long cacheMisses = 0;
+
+    private static class CachedResult {
+        private int stateId;
+        private int dependencyStateId;
+        private int heightBucket;
+        private boolean centerOverBlock;
+        private SafetyResult result;
+    }
+
     /**
-     * Check if a landing block is safe given the current conditions
+     * Check if a landing block is safe given the current conditions. Pure: never changes player or
+     * key state. Actions such as crouching are reported through the result for the caller to plan.
      */
     public static SafetyResult checkLandingSafety(MinecraftClient client, ClientPlayerEntity player,
             BlockPos landingBlock, Vec3d currentPlayerPos) {
         if (client.world == null) {
-            return new SafetyResult(false, "World not available");
-        }
-
-        BlockState landingState = client.world.getBlockState(landingBlock);
-        Block landingBlockType = landingState.getBlock();
-
-        // Water is always safe
-        if (landingBlockType == Blocks.WATER) {
-            return new SafetyResult(true, "Water always prevents fall damage");
-        }
-
-        // Twisted vines prevent fall damage
-        if (landingBlockType == Blocks.TWISTING_VINES
-                || landingBlockType == Blocks.TWISTING_VINES_PLANT) {
-            return new SafetyResult(true, "Twisted vines prevent fall damage");
-        }
+            return NO_WORLD;
+        }
+
+        // Water, cobweb or another clutch already placed (or pending) on top of the landing block
+        BlockState aboveState = PendingPlacements.getBlockState(client.world, landingBlock.up());
+        if (LandingSafetyTables.get().isSafe(Block.getRawIdFromState(aboveState))) {
+            return SafetyResult.of(true, false, "%s above landing block prevents fall damage",
+                    aboveState.getBlock());
+        }
+
+        BlockState landingState = PendingPlacements.getBlockState(client.world, landingBlock);
+        int stateId = Block.getRawIdFromState(landingState);
+        byte landingClass = LandingSafetyTables.get().classify(stateId);
+
+        int dependencyStateId = NO_DEPENDENCY;
+        if (landingClass == LandingSafetyTable.NEEDS_BELOW_CHECK) {
+            dependencyStateId = Block.getRawIdFromState(
+                    PendingPlacements.getBlockState(client.world, landingBlock.down()));
+        }
+        int fallHeight = (int) (currentPlayerPos.y - landingBlock.getY());
+        int heightBucket = Math.max(0, fallHeight / HEIGHT_BUCKET_BLOCKS);
+        boolean centerOverBlock = isCenterOverBlock(currentPlayerPos, landingBlock);
+
+        CachedResult cached = cache.get(landingBlock.asLong());
+        if (cached != null && cached.stateId == stateId
+                && cached.dependencyStateId == dependencyStateId
+                && cached.heightBucket == heightBucket
+                && cached.centerOverBlock == centerOverBlock) {
+            cacheHits++;
+            return cached.result;
+        }
+
+        cacheMisses++;
+        if (cached == null) {
+            cached = new CachedResult();
+            cache.put(landingBlock.asLong(), cached);
+        }
+        cached.stateId = stateId;
+        cached.dependencyStateId = dependencyStateId;
+        cached.heightBucket = heightBucket;
+        cached.centerOverBlock = centerOverBlock;
+        cached.result = evaluate(landingState, landingClass, dependencyStateId, heightBucket,
+                centerOverBlock, landingBlock);
+        return cached.result;
+    }
 
-        // Slime blocks are safe if no carpet on top
-        if (landingBlockType == Blocks.SLIME_BLOCK) {
-            return new SafetyResult(true, "Slime blocks prevent fall damage");
-        }
+    /**
+     * Forget memoized results; called when a fall ends
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
 
-        // Powder snow is safe if no carpet on top
-        if (landingBlockType == Blocks.POWDER_SNOW) {
-            return new SafetyResult(true, "Powder snow prevent fall damage");
-        }
+    public static long getCacheHits() {
+        return cacheHits;
+    }
 
-        // Check carpet with slime/powder snow below
-        if (landingState.isIn(BlockTags.WOOL_CARPETS)) {
-            return checkCarpetWithSafeBlockBelow(client, landingBlock);
-        }
+    public static long getCacheMisses() {
+        return cacheMisses;
+    }
 
-        // Check scaffolding with crouch requirement
-        if (landingBlockType == Blocks.SCAFFOLDING) {
-            return checkScaffoldingWithCrouch(client, player, currentPlayerPos, landingBlock);
+    private static SafetyResult evaluate(BlockState landingState, byte landingClass,
+            int belowStateId, int heightBucket, boolean centerOverBlock, BlockPos landingBlock) {
+        switch (landingClass) {
+            case LandingSafetyTable.SAFE:
+                return SafetyResult.of(true, false, "%s prevents fall damage",
+                        landingState.getBlock());
+            case LandingSafetyTable.NEEDS_BELOW_CHECK:
+                return checkCarpetWithSafeBlockBelow(belowStateId);
+            case LandingSafetyTable.NEEDS_CROUCH:
+                return checkScaffoldingWithCrouch(heightBucket, centerOverBlock, landingBlock);
+            default:
+                // Everything else is not safe - need water clutch
+                return SafetyResult.of(false, false,
+                        "Block '%s' is not safe for landing - need water clutch",
+                        landingState.getBlock());
         }
-
-        // Everything else is not safe - need water clutch
-        return new SafetyResult(false,
-                String.format("Block '%s' is not safe for landing - need water clutch",
-                        landingBlockType.getName().getString()));
     }
 
     /**
      * Check if carpet has slime block or powder snow below it
      */
-    private static SafetyResult checkCarpetWithSafeBlockBelow(MinecraftClient client,
-            BlockPos carpetPos) {
-        BlockPos belowPos = carpetPos.down();
-        BlockState belowState = client.world.getBlockState(belowPos);
-        Block belowBlock = belowState.getBlock();
+    private static SafetyResult checkCarpetWithSafeBlockBelow(int belowStateId) {
+        Block belowBlock = Block.getStateFromRawId(belowStateId).getBlock();
 
-        MLGMaster.LOGGER.info("Checking carpet at {} | Block below: {}", carpetPos,
-                belowBlock.getName().getString());
-
-        if (belowBlock == Blocks.SLIME_BLOCK) {
-            return new SafetyResult(true, "Carpet with slime block below - safe landing");
-        }
-
-        if (belowBlock == Blocks.POWDER_SNOW) {
-            return new SafetyResult(true, "Carpet with powder snow below - safe landing");
+        if (LandingSafetyTables.get().isSafe(belowStateId)) {
+            return SafetyResult.of(true, false, "Carpet with %s below - safe landing", belowBlock);
         }
 
-        return new SafetyResult(false,
-                String.format("Carpet with unsafe block below (%s) - need water clutch",
-                        belowBlock.getName().getString()));
+        return SafetyResult.of(false, false,
+                "Carpet with unsafe block below (%s) - need water clutch", belowBlock);
     }
 
     /**
-     * Check scaffolding safety and handle crouch requirement Only considers it safe if the player's
-     * center will land on the scaffolding block
+     * Scaffolding is only safe if the player's center lands on it while crouching; the crouch
+     * itself is left to the caller via {@link SafetyResult#needsCrouching()}
      */
-    private static SafetyResult checkScaffoldingWithCrouch(MinecraftClient client,
-            ClientPlayerEntity player, Vec3d currentPos, BlockPos scaffoldingPos) {
-        double fallDistance = currentPos.y - scaffoldingPos.getY();
-
-        if (fallDistance >= 150.0) {
-            return new SafetyResult(false, String.format(
-                    "Scaffolding unsafe for %.1f block fall (exceeds 150 block limit) - need water clutch",
-                    fallDistance));
+    private static SafetyResult checkScaffoldingWithCrouch(int heightBucket,
+            boolean centerOverBlock, BlockPos scaffoldingPos) {
+        if (heightBucket >= SCAFFOLDING_MAX_FALL / HEIGHT_BUCKET_BLOCKS) {
+            return SafetyResult.of(false, false,
+                    "Scaffolding unsafe for %d+ block fall (exceeds 150 block limit) - need water clutch",
+                    heightBucket * HEIGHT_BUCKET_BLOCKS);
         }
 
-        // Check if player's center will land on the scaffolding block
-        double playerCenterX = currentPos.x;
-        double playerCenterZ = currentPos.z;
-
-        // Scaffolding block bounds (from block position to block position + 1)
-        double blockMinX = scaffoldingPos.getX();
-        double blockMaxX = scaffoldingPos.getX() + 1.0;
-        double blockMinZ = scaffoldingPos.getZ();
-        double blockMaxZ = scaffoldingPos.getZ() + 1.0;
-
-        boolean centerWillHitBlock = (playerCenterX >= blockMinX && playerCenterX <= blockMaxX)
-                && (playerCenterZ >= blockMinZ && playerCenterZ <= blockMaxZ);
-
-        if (!centerWillHitBlock) {
-            return new SafetyResult(false, String.format(
-                    "Player center (%.2f, %.2f) will not land on scaffolding block at (%d, %d) - need water clutch",
-                    playerCenterX, playerCenterZ, scaffoldingPos.getX(), scaffoldingPos.getZ()));
+        if (!centerOverBlock) {
+            return SafetyResult.of(false, false,
+                    "Player center will not land on scaffolding block at (%d, %d) - need water clutch",
+                    scaffoldingPos.getX(), scaffoldingPos.getZ());
         }
 
-        // This line activates the mixin crouch
-        ScaffoldingCrouchManager.activateScaffoldingCrouch(player, client);
-
-        MLGMaster.LOGGER.info("Scaffolding requires crouching - activated crouch for {} block fall",
-                fallDistance);
-        return new SafetyResult(true, String.format(
-                "Scaffolding safe with forced crouch for %.1f block fall - player center will hit block",
-                fallDistance), true);
+        return SafetyResult.of(true, true,
+                "Scaffolding safe with forced crouch for %d+ block fall - player center will hit block",
+                heightBucket * HEIGHT_BUCKET_BLOCKS);
     }
 
+    private static boolean isCenterOverBlock(Vec3d pos, BlockPos block) {
+        return pos.x >= block.getX() && pos.x <= block.getX() + 1.0 && pos.z >= block.getZ()
+                && pos.z <= block.getZ() + 1.0;
+    }
 
     /**
      * Simple check if we should skip water placement
@@ -182,11 +243,9 @@ public class SafeLandingBlockChecker {
     }
 
     /**
-     * Quick check for obviously safe blocks
+     * Quick check for blocks whose default state the landing definitions mark safe
      */
     public static boolean isObviouslySafe(Block block) {
-        return block == Blocks.WATER || block == Blocks.TWISTING_VINES
-                || block == Blocks.TWISTING_VINES_PLANT || block == Blocks.SLIME_BLOCK
-                || block == Blocks.POWDER_SNOW;
+        return LandingSafetyTables.get().isSafe(Block.getRawIdFromState(block.getDefaultState()));
     }
 }
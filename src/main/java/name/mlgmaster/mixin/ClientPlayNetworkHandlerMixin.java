@@ -0,0 +1,71 @@
+package name.mlgmaster.mixin;
+
+import name.mlgmaster.HotbarIndex;
+import name.mlgmaster.PendingPlacements;
+import name.mlgmaster.PlacementTracker;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.network.packet.s2c.play.BlockUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.InventoryS2CPacket;
+import net.minecraft.network.packet.s2c.play.PlayerActionResponseS2CPacket;
+import net.minecraft.network.packet.s2c.play.ScreenHandlerSlotUpdateS2CPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ClientPlayNetworkHandler.class)
+public abstract class ClientPlayNetworkHandlerMixin {
+
+    @Inject(method = "onInventory", at = @At("TAIL"))
+    private void onInventorySync(InventoryS2CPacket packet, CallbackInfo ci) {
+        refreshHotbarIndex();
+        for (int slot = 0; slot < packet.contents().size(); slot++) {
+            PlacementTracker.onInventorySlot(packet.syncId(), slot, packet.contents().get(slot));
+        }
+    }
+
+    @Inject(method = "onScreenHandlerSlotUpdate", at = @At("TAIL"))
+    private void onSlotSync(ScreenHandlerSlotUpdateS2CPacket packet, CallbackInfo ci) {
+        refreshHotbarIndex();
+        PlacementTracker.onInventorySlot(packet.getSyncId(), packet.getSlot(), packet.getStack());
+    }
+
+    @Inject(method = "onBlockUpdate", at = @At("TAIL"))
+    private void onBlockSync(BlockUpdateS2CPacket packet, CallbackInfo ci) {
+        PlacementTracker.onServerBlockUpdate(packet.getPos(), packet.getState());
+        PendingPlacements.onServerBlockUpdate(packet.getPos());
+    }
+
+    @Inject(method = "onChunkDeltaUpdate", at = @At("TAIL"))
+    private void onChunkDeltaSync(ChunkDeltaUpdateS2CPacket packet, CallbackInfo ci) {
+        // The action ack can drain the pending set while the tracker still waits for the block
+        if (PendingPlacements.isEmpty()
+                && PlacementTracker.getStatus() != PlacementTracker.Status.PENDING) {
+            return;
+        }
+        packet.visitUpdates((pos, state) -> {
+            PlacementTracker.onServerBlockUpdate(pos, state);
+            PendingPlacements.onServerBlockUpdate(pos);
+        });
+    }
+
+    @Inject(method = "onPlayerActionResponse", at = @At("TAIL"))
+    private void onActionAck(PlayerActionResponseS2CPacket packet, CallbackInfo ci) {
+        PendingPlacements.onAcknowledged(packet.sequence());
+    }
+
+    /**
+     * A sync can replace the slots the index was built from, so rebuild it here rather than on
+     * the next query in the middle of a fall
+     */
+    private void refreshHotbarIndex() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player != null) {
+            HotbarIndex.refresh(client.player.getInventory());
+        } else {
+            HotbarIndex.invalidate();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package name.mlgmaster.mixin;
 
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.client.network.ClientPlayerInteractionManager;
+import net.minecraft.client.network.SequencedPacketCreator;
+import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
@@ -23,4 +26,13 @@ public interface ClientPlayerInteractionManagerAccessor {
     @Invoker("interactBlockInternal")
     ActionResult invokeInteractBlockInternal(ClientPlayerEntity player, Hand hand,
             BlockHitResult hitResult);
+
+    @Invoker("sendSequencedPacket")
+    void invokeSendSequencedPacket(ClientWorld world, SequencedPacketCreator packetCreator);
+
+    @Accessor("lastSelectedSlot")
+    int getLastSelectedSlot();
+
+    @Accessor("lastSelectedSlot")
+    void setLastSelectedSlot(int slot);
 }
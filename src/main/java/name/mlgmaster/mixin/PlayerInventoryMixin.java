@@ -0,0 +1,54 @@
+package name.mlgmaster.mixin;
+
+import name.mlgmaster.HotbarIndex;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(PlayerInventory.class)
+public abstract class PlayerInventoryMixin {
+
+    @Shadow
+    @Final
+    public PlayerEntity player;
+
+    @Inject(method = "setStack", at = @At("TAIL"))
+    private void onSetStack(int slot, ItemStack stack, CallbackInfo ci) {
+        if (player instanceof ClientPlayerEntity) {
+            HotbarIndex.onSlotChanged((PlayerInventory) (Object) this, slot, stack);
+        }
+    }
+
+    @Inject(method = "removeStack(I)Lnet/minecraft/item/ItemStack;", at = @At("TAIL"))
+    private void onRemoveStack(int slot, CallbackInfoReturnable<ItemStack> cir) {
+        if (player instanceof ClientPlayerEntity) {
+            PlayerInventory inventory = (PlayerInventory) (Object) this;
+            HotbarIndex.onSlotChanged(inventory, slot, inventory.getStack(slot));
+        }
+    }
+
+    // Splitting a stack can empty the slot in place, without going through setStack
+    @Inject(method = "removeStack(II)Lnet/minecraft/item/ItemStack;", at = @At("TAIL"))
+    private void onRemoveStackAmount(int slot, int amount,
+            CallbackInfoReturnable<ItemStack> cir) {
+        if (player instanceof ClientPlayerEntity) {
+            PlayerInventory inventory = (PlayerInventory) (Object) this;
+            HotbarIndex.onSlotChanged(inventory, slot, inventory.getStack(slot));
+        }
+    }
+
+    @Inject(method = "clear", at = @At("TAIL"))
+    private void onClear(CallbackInfo ci) {
+        if (player instanceof ClientPlayerEntity) {
+            HotbarIndex.invalidate();
+        }
+    }
+}